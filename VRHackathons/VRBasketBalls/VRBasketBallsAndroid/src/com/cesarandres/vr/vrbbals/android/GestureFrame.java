@@ -0,0 +1,51 @@
+package com.cesarandres.vr.vrbbals.android;
+
+import java.nio.ByteBuffer;
+
+import com.cesarandres.vr.vrbbals.android.MainActivity.COMMANDS;
+
+/**
+ * Client side copy of the server's binary gesture frame. Layout, big endian:
+ * <pre>
+ * magic(1) type(1) reserved(2) dirX(4) dirY(4) dirZ(4) timestamp(8)
+ * </pre>
+ */
+public final class GestureFrame {
+
+	public static final String BINARY_HANDSHAKE = "BINARY";
+	public static final String BINARY_ACK = "BINARY_OK";
+
+	public static final int SIZE = 24;
+	public static final byte MAGIC = (byte) 0xB6;
+
+	private static final COMMANDS[] TYPES = { COMMANDS.NONE, COMMANDS.LEFT,
+			COMMANDS.UP, COMMANDS.RESET };
+
+	public byte type;
+	public float dirX;
+	public float dirY;
+	public float dirZ;
+	public long timestamp;
+
+	/**
+	 * Fills this frame from the next {@link #SIZE} bytes of the buffer.
+	 *
+	 * @return false if the bytes are not a frame
+	 */
+	public boolean read(ByteBuffer buffer) {
+		if (buffer.get() != MAGIC) {
+			return false;
+		}
+		type = buffer.get();
+		buffer.getShort();
+		dirX = buffer.getFloat();
+		dirY = buffer.getFloat();
+		dirZ = buffer.getFloat();
+		timestamp = buffer.getLong();
+		return true;
+	}
+
+	public COMMANDS getCommand() {
+		return (type >= 0 && type < TYPES.length) ? TYPES[type] : COMMANDS.NONE;
+	}
+}
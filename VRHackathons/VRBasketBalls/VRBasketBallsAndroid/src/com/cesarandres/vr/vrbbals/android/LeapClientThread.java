@@ -1,11 +1,15 @@
 package com.cesarandres.vr.vrbbals.android;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 
 import com.cesarandres.vr.vrbbals.android.MainActivity.COMMANDS;
 
@@ -16,6 +20,12 @@ public class LeapClientThread extends Thread {
 	private MainActivity activity;
 	public static final String SERVER_ADDRESS = "192.168.0.104";
 
+	/**
+	 * Ask the server for fixed size binary gesture frames. Servers that do
+	 * not know the handshake just echo it and the text protocol is used.
+	 */
+	public static final boolean USE_BINARY = true;
+
 	public LeapClientThread(MainActivity activity) {
 		super(LeapClientThread.class.getName());
 		this.activity = activity;
@@ -23,38 +33,92 @@ public class LeapClientThread extends Thread {
 
 	public void run() {
 		while (true) {
-			try (Socket kkSocket = new Socket(SERVER_ADDRESS, 9090);
-					PrintWriter out = new PrintWriter(
-							kkSocket.getOutputStream(), true);
-					BufferedReader in = new BufferedReader(
-							new InputStreamReader(kkSocket.getInputStream()));) {
-				BufferedReader stdIn = new BufferedReader(
-						new InputStreamReader(System.in));
-				String fromServer;
-				String fromUser;
-
-				activity.postEvent(COMMANDS.CONNECTED.toString()); 
-
-				while ((fromServer = in.readLine()) != null) {
-					if (fromServer.equals("END"))
-						break;
-
-					fromUser = stdIn.readLine();
-					if (fromUser != null) {
-						out.println(fromUser);
-					}
-					activity.postEvent(fromServer);
+			try (Socket kkSocket = new Socket(SERVER_ADDRESS, 9090)) {
+				kkSocket.setTcpNoDelay(true);
+				activity.postEvent(COMMANDS.CONNECTED.toString());
+
+				if (!USE_BINARY || !runBinary(kkSocket)) {
+					runText(kkSocket);
 				}
 			} catch (UnknownHostException e) {
 				Log.e(this.getName(), "Don't know about host");
 			} catch (IOException e) {
 				Log.e(this.getName(), "Couldn't get I/O for the connection");
 			}
-			activity.postEvent(COMMANDS.DISCONNECTED.toString()); 
+			activity.postEvent(COMMANDS.DISCONNECTED.toString());
 			try {
 				Thread.sleep(3000);
 			} catch (InterruptedException e) {
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Negotiates and runs the binary protocol.
+	 *
+	 * @return false if the server did not accept it, the connection is then
+	 *         still usable for the text protocol
+	 */
+	private boolean runBinary(Socket socket) throws IOException {
+		OutputStream out = socket.getOutputStream();
+		out.write((GestureFrame.BINARY_HANDSHAKE + "\n").getBytes("UTF-8"));
+		out.flush();
+
+		// read the reply unbuffered so no frame bytes are consumed with it
+		DataInputStream in = new DataInputStream(socket.getInputStream());
+		String reply = readLine(in);
+		if (!GestureFrame.BINARY_ACK.equals(reply)) {
+			// an old server echoes the handshake, anything else is a command
+			if (reply != null && !reply.equals(GestureFrame.BINARY_HANDSHAKE)) {
+				activity.postEvent(reply);
+			}
+			return reply == null;
+		}
+
+		byte[] bytes = new byte[GestureFrame.SIZE];
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		GestureFrame frame = new GestureFrame();
+		while (true) {
+			in.readFully(bytes);
+			buffer.clear();
+			if (!frame.read(buffer)) {
+				Log.e(this.getName(), "Lost frame alignment");
+				return true;
+			}
+			activity.postEvent(frame.getCommand());
+		}
+	}
+
+	private void runText(Socket socket) throws IOException {
+		PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+		BufferedReader in = new BufferedReader(new InputStreamReader(
+				socket.getInputStream()));
+		BufferedReader stdIn = new BufferedReader(new InputStreamReader(
+				System.in));
+		String fromServer;
+		String fromUser;
+
+		while ((fromServer = in.readLine()) != null) {
+			if (fromServer.equals("END"))
+				break;
+
+			fromUser = stdIn.readLine();
+			if (fromUser != null) {
+				out.println(fromUser);
+			}
+			activity.postEvent(fromServer);
+		}
+	}
+
+	private static String readLine(DataInputStream in) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int c;
+		while ((c = in.read()) != -1) {
+			if (c == '\n') {
+				return line.toString("UTF-8").trim();
+			}
+			line.write(c);
+		}
+		return null;
+	}
+}
@@ -57,4 +57,11 @@ public class MainActivity extends SXRActivity {
 			Log.e("Posting Event", e.getLocalizedMessage());
 		}
 	}
+
+	/**
+	 * Posts a command decoded from a binary frame, skipping the name lookup.
+	 */
+	public void postEvent(COMMANDS command) {
+		script.setCommand(command);
+	}
 }
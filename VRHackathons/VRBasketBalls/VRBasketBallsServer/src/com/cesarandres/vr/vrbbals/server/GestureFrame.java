@@ -0,0 +1,89 @@
+package com.cesarandres.vr.vrbbals.server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A gesture as sent to the phones.
+ * <p>
+ * Phones that open the connection with {@link #BINARY_HANDSHAKE} and get
+ * {@link #BINARY_ACK} back receive every gesture as a fixed size big endian
+ * frame of {@link #SIZE} bytes:
+ * <pre>
+ * magic(1) type(1) reserved(2) dirX(4) dirY(4) dirZ(4) timestamp(8)
+ * </pre>
+ * All other phones keep getting the gesture name as a text line.
+ * The Android client keeps a copy of this layout in its own GestureFrame.
+ */
+public final class GestureFrame {
+
+    public static final String BINARY_HANDSHAKE = "BINARY";
+    public static final String BINARY_ACK = "BINARY_OK";
+
+    public static final int SIZE = 24;
+    public static final byte MAGIC = (byte) 0xB6;
+
+    public static final byte TYPE_NONE = 0;
+    public static final byte TYPE_LEFT = 1;
+    public static final byte TYPE_UP = 2;
+    public static final byte TYPE_RESET = 3;
+
+    private static final String[] NAMES = { "NONE", "LEFT", "UP", "RESET" };
+
+    public final byte type;
+    public final float dirX;
+    public final float dirY;
+    public final float dirZ;
+    public final long timestamp;
+
+    public GestureFrame(byte type, float dirX, float dirY, float dirZ, long timestamp) {
+        this.type = type;
+        this.dirX = dirX;
+        this.dirY = dirY;
+        this.dirZ = dirZ;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Wraps a text command, as forwarded by the Leap clients, into a frame
+     * without direction. Unknown commands map to {@link #TYPE_NONE}.
+     */
+    public static GestureFrame fromText(String command, long timestamp) {
+        for (int i = 0; i < NAMES.length; i++) {
+            if (NAMES[i].equals(command)) {
+                return new GestureFrame((byte) i, 0, 0, 0, timestamp);
+            }
+        }
+        return new GestureFrame(TYPE_NONE, 0, 0, 0, timestamp);
+    }
+
+    /**
+     * Name of the gesture in the text protocol.
+     */
+    public String toText() {
+        return (type >= 0 && type < NAMES.length) ? NAMES[type] : NAMES[TYPE_NONE];
+    }
+
+    public void write(ByteBuffer buffer) {
+        buffer.put(MAGIC);
+        buffer.put(type);
+        buffer.putShort((short) 0);
+        buffer.putFloat(dirX);
+        buffer.putFloat(dirY);
+        buffer.putFloat(dirZ);
+        buffer.putLong(timestamp);
+    }
+
+    /**
+     * Reads one frame, or returns null if the buffer does not start with
+     * {@link #MAGIC}. The buffer must hold at least {@link #SIZE} bytes.
+     */
+    public static GestureFrame read(ByteBuffer buffer) {
+        if (buffer.get() != MAGIC) {
+            return null;
+        }
+        byte type = buffer.get();
+        buffer.getShort();
+        return new GestureFrame(type, buffer.getFloat(), buffer.getFloat(),
+                buffer.getFloat(), buffer.getLong());
+    }
+}
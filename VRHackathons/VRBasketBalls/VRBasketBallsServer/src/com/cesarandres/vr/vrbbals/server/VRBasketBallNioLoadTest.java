@@ -0,0 +1,198 @@
+package com.cesarandres.vr.vrbbals.server;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+
+/**
+ * Loopback load test for {@link VRBasketBallNioServer}.
+ * <p>
+ * Connects many phones, half of them using the text protocol and half the
+ * binary one, plus one phone that never reads. A burst of gestures is
+ * broadcast, then a Leap client forwards a final "UP" command. The test
+ * passes when every reading phone gets that last command, i.e. when the
+ * phone that stopped reading does not hold up anybody else. Every phone is
+ * read on its own thread; a phone that sees nothing for
+ * {@link #TIMEOUT_MILLIS}, or that misses any gesture, fails the test and
+ * the process exits with 1.
+ * <p>
+ * Usage: VRBasketBallNioLoadTest [phones] [gestures] [leapPort] [androidPort]
+ */
+public class VRBasketBallNioLoadTest {
+
+    private static final String HOST = "127.0.0.1";
+    private static final int TIMEOUT_MILLIS = 10000;
+
+    public static void main(String[] args) throws Exception {
+        int phones = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int gestures = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+        int leapPort = args.length > 2 ? Integer.parseInt(args[2]) : 18080;
+        int androidPort = args.length > 3 ? Integer.parseInt(args[3]) : 19090;
+
+        VRBasketBallNioServer server = new VRBasketBallNioServer(leapPort, androidPort);
+        Thread serverThread = new Thread(server, VRBasketBallNioServer.class.getName());
+        serverThread.start();
+
+        Socket[] sockets = new Socket[phones];
+        Phone[] readers = new Phone[phones];
+        for (int i = 0; i < phones; i++) {
+            sockets[i] = new Socket(HOST, androidPort);
+            sockets[i].setTcpNoDelay(true);
+            sockets[i].setSoTimeout(TIMEOUT_MILLIS);
+            readers[i] = new Phone(sockets[i], i % 2 != 0);
+        }
+        // connections are accepted in order, so once the slow phone's
+        // handshake is answered every phone is registered
+        Socket slow = new Socket(HOST, androidPort);
+        openBinary(slow);
+
+        for (Phone phone : readers) {
+            phone.start();
+        }
+        long start = System.nanoTime();
+        for (int k = 0; k < gestures; k++) {
+            server.broadcast(new GestureFrame(GestureFrame.TYPE_LEFT, 0.5f, 0.1f, 0.2f, k));
+        }
+
+        Socket leap = new Socket(HOST, leapPort);
+        PrintWriter leapOut = new PrintWriter(leap.getOutputStream(), true);
+        leapOut.println("");
+        leapOut.println("UP");
+
+        int textPhones = 0;
+        int binaryPhones = 0;
+        long received = 0;
+        long fewest = Long.MAX_VALUE;
+        IOException failure = null;
+        for (Phone phone : readers) {
+            phone.join();
+            if (phone.failure != null) {
+                failure = phone.failure;
+                continue;
+            }
+            received += phone.received;
+            fewest = Math.min(fewest, phone.received);
+            if (phone.binary) {
+                binaryPhones++;
+            } else {
+                textPhones++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        server.stop();
+        serverThread.join();
+        leap.close();
+        slow.close();
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+
+        if (failure == null && fewest < gestures + 1) {
+            failure = new IOException("A reading phone lost messages, it got only " + fewest);
+        }
+        if (failure != null) {
+            System.err.println("FAILED: " + failure.getMessage());
+            System.exit(1);
+        }
+        System.out.println(textPhones + " text and " + binaryPhones + " binary phones, "
+                + gestures + " gestures, one phone not reading");
+        System.out.printf("all phones got the last command after %.1f ms%n", elapsed / 1e6);
+        System.out.println(received + " messages received, at least " + fewest
+                + " per phone, " + server.getDroppedMessages() + " dropped by full queues");
+    }
+
+    /**
+     * Reads one phone's messages until the final command.
+     */
+    private static class Phone extends Thread {
+        private final Socket socket;
+        private final boolean binary;
+        private long received;
+        private IOException failure;
+
+        Phone(Socket socket, boolean binary) throws IOException {
+            super("phone-" + socket.getLocalPort());
+            this.socket = socket;
+            this.binary = binary;
+            if (binary) {
+                // handshake before the burst so the phone gets frames only
+                openBinary(socket);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (binary) {
+                    received = drainBinary(new DataInputStream(socket.getInputStream()));
+                } else {
+                    received = drainText(openText(socket));
+                }
+            } catch (SocketTimeoutException e) {
+                failure = new IOException(getName() + " timed out before the last command");
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+    }
+
+    private static BufferedReader openText(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), "UTF-8"));
+    }
+
+    private static DataInputStream openBinary(Socket socket) throws IOException {
+        OutputStream out = socket.getOutputStream();
+        out.write((GestureFrame.BINARY_HANDSHAKE + "\n").getBytes("UTF-8"));
+        out.flush();
+        DataInputStream in = new DataInputStream(socket.getInputStream());
+        StringBuilder reply = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c < 0) {
+                throw new IOException("Connection closed during handshake");
+            }
+            reply.append((char) c);
+        }
+        if (!GestureFrame.BINARY_ACK.equals(reply.toString().trim())) {
+            throw new IOException("Unexpected handshake reply: " + reply);
+        }
+        return in;
+    }
+
+    private static long drainText(BufferedReader in) throws IOException {
+        long count = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            count++;
+            if (line.equals("UP")) {
+                return count;
+            }
+        }
+        throw new IOException("Text phone disconnected before the last command");
+    }
+
+    private static long drainBinary(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[GestureFrame.SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long count = 0;
+        while (true) {
+            in.readFully(bytes);
+            buffer.clear();
+            GestureFrame frame = GestureFrame.read(buffer);
+            if (frame == null) {
+                throw new IOException("Binary phone lost frame alignment");
+            }
+            count++;
+            if (frame.type == GestureFrame.TYPE_UP) {
+                return count;
+            }
+        }
+    }
+}
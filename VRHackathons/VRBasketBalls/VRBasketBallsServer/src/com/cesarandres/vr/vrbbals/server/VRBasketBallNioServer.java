@@ -0,0 +1,377 @@
+package com.cesarandres.vr.vrbbals.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Single threaded, selector based replacement for the blocking
+ * Leap and Android socket threads.
+ * <p>
+ * Both listening ports are served by one selector. Every connection owns its
+ * own read buffer and write queue, so a phone that stops reading only fills
+ * its own queue and never stalls the Leap side. When a queue is full the
+ * oldest message is dropped, the phone only cares about the latest gesture.
+ * <p>
+ * The line based wire format of the old threads is kept: every line received
+ * is echoed back, a Leap client forwards the line following an empty line to
+ * the phones and an Android client disconnects after sending "Close".
+ * A phone that sends {@link GestureFrame#BINARY_HANDSHAKE} is answered with
+ * {@link GestureFrame#BINARY_ACK} and from then on receives fixed size
+ * binary frames instead of text lines, its further input is not echoed.
+ * <p>
+ * Both ports are bound by the constructor, so a port already in use is
+ * reported to the caller instead of leaving a server that queues broadcasts
+ * nobody will ever send.
+ */
+public class VRBasketBallNioServer implements Runnable {
+
+    public static final int MAX_QUEUED_MESSAGES = 64;
+    // broadcasts queued before writing to the phones, well below the queue limit
+    private static final int BROADCAST_BATCH = MAX_QUEUED_MESSAGES / 2;
+    private static final int BUFFER_SIZE = 1024;
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+
+    private final Selector selector;
+    private final List<Connection> androidConnections = new ArrayList<Connection>();
+    private final ConcurrentLinkedQueue<Broadcast> pendingBroadcasts = new ConcurrentLinkedQueue<Broadcast>();
+    private volatile boolean running = true;
+    private long droppedMessages;
+
+    public VRBasketBallNioServer(int leapPort, int androidPort) throws IOException {
+        this.selector = Selector.open();
+        try {
+            listen(leapPort, false);
+            listen(androidPort, true);
+        } catch (IOException e) {
+            closeAll();
+            throw e;
+        }
+    }
+
+    /**
+     * Queues a gesture for every connected phone. Safe to call from any
+     * thread, the actual writes happen on the selector thread.
+     */
+    public void broadcast(GestureFrame frame) {
+        enqueueBroadcast(new Broadcast(frame.toText(), frame));
+    }
+
+    /**
+     * Queues a text command for every connected phone. Text phones get the
+     * command unchanged, phones using the binary protocol get it as a frame
+     * without direction.
+     */
+    public void broadcast(String command) {
+        enqueueBroadcast(new Broadcast(command,
+                GestureFrame.fromText(command, System.nanoTime() / 1000)));
+    }
+
+    private void enqueueBroadcast(Broadcast broadcast) {
+        if (!running) {
+            return;
+        }
+        pendingBroadcasts.add(broadcast);
+        selector.wakeup();
+    }
+
+    public void stop() {
+        running = false;
+        selector.wakeup();
+    }
+
+    /**
+     * Number of messages discarded because a phone's write queue was full.
+     * Only meaningful when read from the selector thread or after it stopped.
+     */
+    public long getDroppedMessages() {
+        return droppedMessages;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                flushBroadcasts();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        handle(key);
+                    } catch (IOException e) {
+                        close(key);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("There was an error: " + e.getLocalizedMessage());
+        } finally {
+            running = false;
+            pendingBroadcasts.clear();
+            closeAll();
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            close(key);
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void listen(int port, boolean android) throws IOException {
+        ServerSocketChannel server = ServerSocketChannel.open();
+        server.configureBlocking(false);
+        server.socket().setReuseAddress(true);
+        server.socket().bind(new InetSocketAddress(port));
+        server.register(selector, SelectionKey.OP_ACCEPT, Boolean.valueOf(android));
+    }
+
+    private void handle(SelectionKey key) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept(key);
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        if (key.isReadable()) {
+            connection.read();
+        }
+        if (key.isValid() && key.isWritable()) {
+            connection.write();
+        }
+    }
+
+    private void accept(SelectionKey key) throws IOException {
+        SocketChannel channel = ((ServerSocketChannel) key.channel()).accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        boolean android = ((Boolean) key.attachment()).booleanValue();
+        SelectionKey clientKey = channel.register(selector, SelectionKey.OP_READ);
+        Connection connection = new Connection(clientKey, android);
+        clientKey.attach(connection);
+        if (android) {
+            androidConnections.add(connection);
+        }
+    }
+
+    /**
+     * Hands the pending broadcasts to the phones. The phones are written to
+     * after every {@link #BROADCAST_BATCH} broadcasts, so however long the
+     * burst, only a phone that is not reading fills its queue and loses
+     * messages.
+     */
+    private void flushBroadcasts() {
+        Broadcast broadcast;
+        int batch = 0;
+        while ((broadcast = pendingBroadcasts.poll()) != null) {
+            // each representation is encoded once and shared read-only
+            ByteBuffer line = null;
+            ByteBuffer binary = null;
+            for (int i = 0; i < androidConnections.size(); i++) {
+                Connection connection = androidConnections.get(i);
+                if (connection.binary) {
+                    if (binary == null) {
+                        binary = ByteBuffer.allocate(GestureFrame.SIZE);
+                        broadcast.frame.write(binary);
+                        binary.flip();
+                    }
+                    connection.enqueue(binary.duplicate());
+                } else {
+                    if (line == null) {
+                        line = encode(broadcast.text);
+                    }
+                    connection.enqueue(line.duplicate());
+                }
+            }
+            if (++batch == BROADCAST_BATCH) {
+                writeAll();
+                batch = 0;
+            }
+        }
+        if (batch > 0) {
+            writeAll();
+        }
+    }
+
+    private void writeAll() {
+        // backwards, writing may close and remove a connection
+        for (int i = androidConnections.size() - 1; i >= 0; i--) {
+            Connection connection = androidConnections.get(i);
+            try {
+                connection.write();
+            } catch (IOException e) {
+                close(connection.key);
+            }
+        }
+    }
+
+    private void close(SelectionKey key) {
+        Object attachment = key.attachment();
+        if (attachment instanceof Connection) {
+            androidConnections.remove(attachment);
+        }
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static ByteBuffer encode(String line) {
+        return CHARSET.encode(line + "\n");
+    }
+
+    /**
+     * A queued broadcast in both wire formats.
+     */
+    private static final class Broadcast {
+        final String text;
+        final GestureFrame frame;
+
+        Broadcast(String text, GestureFrame frame) {
+            this.text = text;
+            this.frame = frame;
+        }
+    }
+
+    private class Connection {
+        private final SelectionKey key;
+        private final boolean android;
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private final ArrayDeque<ByteBuffer> writeQueue = new ArrayDeque<ByteBuffer>();
+        private boolean binary;
+        private boolean forwardNextLine;
+        private boolean closeWhenFlushed;
+
+        Connection(SelectionKey key, boolean android) {
+            this.key = key;
+            this.android = android;
+        }
+
+        void read() throws IOException {
+            int count = ((SocketChannel) key.channel()).read(readBuffer);
+            if (count < 0) {
+                close(key);
+                return;
+            }
+            readBuffer.flip();
+            int start = readBuffer.position();
+            for (int i = start; i < readBuffer.limit(); i++) {
+                if (readBuffer.get(i) == '\n') {
+                    String line = decode(start, i);
+                    start = i + 1;
+                    onLine(line);
+                    if (!key.isValid()) {
+                        return;
+                    }
+                }
+            }
+            readBuffer.position(start);
+            readBuffer.compact();
+            if (!readBuffer.hasRemaining()) {
+                // a line longer than the buffer is not part of the protocol
+                close(key);
+            }
+        }
+
+        private String decode(int start, int end) {
+            if (end > start && readBuffer.get(end - 1) == '\r') {
+                end--;
+            }
+            ByteBuffer slice = readBuffer.duplicate();
+            slice.position(start);
+            slice.limit(end);
+            return CHARSET.decode(slice).toString();
+        }
+
+        private void onLine(String line) {
+            if (closeWhenFlushed) {
+                return;
+            }
+            if (android) {
+                if (binary) {
+                    return;
+                }
+                if (line.equals(GestureFrame.BINARY_HANDSHAKE)) {
+                    enqueue(encode(GestureFrame.BINARY_ACK));
+                    binary = true;
+                    return;
+                }
+                enqueue(encode(line));
+                if (line.equals("Close")) {
+                    closeWhenFlushed = true;
+                }
+            } else if (forwardNextLine) {
+                System.out.println(line);
+                broadcast(line);
+                closeWhenFlushed = true;
+                if (writeQueue.isEmpty()) {
+                    close(key);
+                }
+            } else {
+                enqueue(encode(line));
+                if (line.equals("")) {
+                    forwardNextLine = true;
+                }
+            }
+        }
+
+        void enqueue(ByteBuffer message) {
+            if (writeQueue.size() >= MAX_QUEUED_MESSAGES) {
+                // never drop a message that is already partially on the wire
+                ByteBuffer head = writeQueue.poll();
+                if (head.position() > 0) {
+                    writeQueue.poll();
+                    writeQueue.addFirst(head);
+                }
+                droppedMessages++;
+            }
+            writeQueue.add(message);
+            if (key.isValid()) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            }
+        }
+
+        void write() throws IOException {
+            if (!writeQueue.isEmpty()) {
+                // one gathering write for everything queued
+                SocketChannel channel = (SocketChannel) key.channel();
+                channel.write(writeQueue.toArray(new ByteBuffer[writeQueue.size()]));
+                while (!writeQueue.isEmpty() && !writeQueue.peek().hasRemaining()) {
+                    writeQueue.poll();
+                }
+                if (!writeQueue.isEmpty()) {
+                    return;
+                }
+            }
+            if (closeWhenFlushed) {
+                close(key);
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+    }
+}
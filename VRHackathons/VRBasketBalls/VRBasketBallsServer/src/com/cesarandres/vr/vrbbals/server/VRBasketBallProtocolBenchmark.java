@@ -0,0 +1,117 @@
+package com.cesarandres.vr.vrbbals.server;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+
+/**
+ * Loopback benchmark of the text protocol against the binary one.
+ * <p>
+ * One phone at a time is connected to a local {@link VRBasketBallNioServer}.
+ * Each gesture is broadcast and read back before the next one is sent, so
+ * the figure printed is the mean broadcast to receive round trip. A text
+ * command is also broadcast to check that text phones get it unchanged.
+ * <p>
+ * Usage: VRBasketBallProtocolBenchmark [gestures] [rounds] [leapPort] [androidPort]
+ */
+public class VRBasketBallProtocolBenchmark {
+
+    private static final String HOST = "127.0.0.1";
+
+    public static void main(String[] args) throws Exception {
+        int gestures = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int leapPort = args.length > 2 ? Integer.parseInt(args[2]) : 28080;
+        int androidPort = args.length > 3 ? Integer.parseInt(args[3]) : 29090;
+
+        VRBasketBallNioServer server = new VRBasketBallNioServer(leapPort, androidPort);
+        Thread serverThread = new Thread(server, VRBasketBallNioServer.class.getName());
+        serverThread.start();
+        try {
+            // the first round warms up the JIT
+            for (int round = 0; round < rounds; round++) {
+                long text = runText(server, androidPort, gestures);
+                long binary = runBinary(server, androidPort, gestures);
+                System.out.printf("round %d: text %.1f us, binary %.1f us per round trip%n",
+                        round, text / 1e3 / gestures, binary / 1e3 / gestures);
+            }
+        } finally {
+            server.stop();
+            serverThread.join();
+        }
+    }
+
+    private static long runText(VRBasketBallNioServer server, int port, int gestures)
+            throws IOException {
+        Socket socket = new Socket(HOST, port);
+        try {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(new InputStreamReader(
+                    socket.getInputStream(), "UTF-8"));
+            // a line sent and echoed back means the phone is registered
+            OutputStream out = socket.getOutputStream();
+            out.write("ping\n".getBytes("UTF-8"));
+            out.flush();
+            expect("ping", in.readLine());
+
+            server.broadcast("END");
+            expect("END", in.readLine());
+
+            long start = System.nanoTime();
+            for (int i = 0; i < gestures; i++) {
+                server.broadcast(new GestureFrame(GestureFrame.TYPE_LEFT, 0.5f, 0.1f, 0.2f, i));
+                expect("LEFT", in.readLine());
+            }
+            return System.nanoTime() - start;
+        } finally {
+            socket.close();
+        }
+    }
+
+    private static long runBinary(VRBasketBallNioServer server, int port, int gestures)
+            throws IOException {
+        Socket socket = new Socket(HOST, port);
+        try {
+            socket.setTcpNoDelay(true);
+            OutputStream out = socket.getOutputStream();
+            out.write((GestureFrame.BINARY_HANDSHAKE + "\n").getBytes("UTF-8"));
+            out.flush();
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            StringBuilder reply = new StringBuilder();
+            int c;
+            while ((c = in.read()) != '\n') {
+                if (c < 0) {
+                    throw new IOException("Connection closed during handshake");
+                }
+                reply.append((char) c);
+            }
+            expect(GestureFrame.BINARY_ACK, reply.toString().trim());
+
+            byte[] bytes = new byte[GestureFrame.SIZE];
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long start = System.nanoTime();
+            for (int i = 0; i < gestures; i++) {
+                server.broadcast(new GestureFrame(GestureFrame.TYPE_LEFT, 0.5f, 0.1f, 0.2f, i));
+                in.readFully(bytes);
+                buffer.clear();
+                GestureFrame frame = GestureFrame.read(buffer);
+                if (frame == null || frame.timestamp != i) {
+                    throw new IOException("Unexpected frame for gesture " + i);
+                }
+            }
+            return System.nanoTime() - start;
+        } finally {
+            socket.close();
+        }
+    }
+
+    private static void expect(String expected, String actual) throws IOException {
+        if (!expected.equals(actual)) {
+            throw new IOException("Expected " + expected + " but got " + actual);
+        }
+    }
+}
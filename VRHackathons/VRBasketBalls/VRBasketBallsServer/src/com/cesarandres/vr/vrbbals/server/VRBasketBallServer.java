@@ -1,68 +1,31 @@
 package com.cesarandres.vr.vrbbals.server;
 import java.io.IOException;
-import java.net.ServerSocket;
 import java.util.Date;
 
 import com.leapmotion.leap.Controller;
 import com.leapmotion.leap.Frame;
 import com.leapmotion.leap.Gesture;
 import com.leapmotion.leap.Listener;
+import com.leapmotion.leap.SwipeGesture;
+import com.leapmotion.leap.Vector;
 
 public class VRBasketBallServer extends Listener {
 	
-	private static VRBasketBallAndroidThread androidThread;
-
     public static final int PORT_LEAP_NUMBER = 8080;
     public static final int PORT_ANDROID_NUMBER = 9090;
     
     public float lastActionTime;
     
-    public class AndroidServer implements Runnable{
-		@Override
-		public void run() {
-	        try (ServerSocket serverSocketAndroid = new ServerSocket(PORT_ANDROID_NUMBER)) {
-	        	while (true) {
-	        		VRBasketBallAndroidThread newAndroidThread = new VRBasketBallAndroidThread(serverSocketAndroid.accept());
-	        		VRBasketBallServer.setAndroidThreas(newAndroidThread);
-	        		newAndroidThread.start();
-	        	}
-	        } catch (IOException e) {
-	            System.err.println("There was an error: " + e.getLocalizedMessage());
-	            System.exit(-1);
-	        }
-		}
-    }
-    
-    public class LeapServer implements Runnable{
-		@Override
-		public void run() {
-			try (ServerSocket serverSocket = new ServerSocket(PORT_LEAP_NUMBER)) { 
-	            while (true) {
-	                new VRBasketBallsLeapThread(serverSocket.accept()).start();
-	            }
-	        } catch (IOException e) {
-	            System.err.println("There was an error: " + e.getLocalizedMessage());
-	            System.exit(-1);
-	        }
-		}
-    }
-    
-    public static void setAndroidThreas(VRBasketBallAndroidThread androidThread){
-    	synchronized(VRBasketBallServer.class){
-    		VRBasketBallServer.androidThread = androidThread;
-    	}
-    }
+    private final VRBasketBallNioServer nioServer;
     
-    public static VRBasketBallAndroidThread getAndroidThread(){
-    	synchronized(VRBasketBallServer.class){
-    		return VRBasketBallServer.androidThread;
-    	}    	
+    public VRBasketBallServer(VRBasketBallNioServer nioServer) {
+    	this.nioServer = nioServer;
     }
     
     public static void main(String[] args) throws IOException {
-    	VRBasketBallServer server = new VRBasketBallServer();
-   	 	(new Thread(server.new AndroidServer())).start(); 
-   	 	(new Thread(server.new LeapServer())).start();   
+    	VRBasketBallNioServer nioServer = new VRBasketBallNioServer(PORT_LEAP_NUMBER, PORT_ANDROID_NUMBER);
+    	VRBasketBallServer server = new VRBasketBallServer(nioServer);
+   	 	(new Thread(nioServer, VRBasketBallNioServer.class.getName())).start();
    	 	Controller controller = new Controller();
    	 	controller.addListener(server);
    	 	// Keep this process running until Enter is pressed
@@ -75,6 +38,7 @@ public class VRBasketBallServer extends Listener {
 
         // Remove the sample listener when done
         controller.removeListener(server);
+        nioServer.stop();
     }
     
     public void onFrame(Controller controller) {
@@ -98,7 +62,9 @@ public class VRBasketBallServer extends Listener {
                 	}
                 	
                     System.out.println("LEFT");                	
-                    VRBasketBallServer.getAndroidThread().sendMessage("LEFT");
+                    Vector direction = new SwipeGesture(gestureObj).direction();
+                    nioServer.broadcast(new GestureFrame(GestureFrame.TYPE_LEFT,
+                    		direction.getX(), direction.getY(), direction.getZ(), frame.timestamp()));
                 	lastActionTime = new Date().getTime();
                     break;
                 default:
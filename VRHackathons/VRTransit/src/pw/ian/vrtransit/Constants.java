@@ -8,4 +8,15 @@ public class Constants {
 	public static final float DIST = -5f;
 	
 	public static final float MAX_DIST_SQ = (float) (DIST * DIST + DIST * DIST * Math.sqrt(2));
+
+	/**
+	 * Asset with recorded vehicle updates to play back instead of the live
+	 * Firebase feed, see ReplaySource. Null uses the live feed.
+	 */
+	public static final String REPLAY_ASSET = null;
+
+	/**
+	 * Playback speed of {@link #REPLAY_ASSET}, 0 plays it as a single burst.
+	 */
+	public static final float REPLAY_SPEED = 1f;
 }
@@ -1,11 +1,11 @@
 package pw.ian.vrtransit;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Queue;
 
 import com.samsungxr.SXRAndroidResource;
@@ -22,6 +22,7 @@ import com.samsungxr.animation.SXRRelativeMotionAnimation;
 import com.samsungxr.nodes.SXRTextViewNode;
 
 import pw.ian.vrtransit.data.BusUpdate;
+import pw.ian.vrtransit.data.ReplaySource;
 import pw.ian.vrtransit.data.TransitDataAccessor;
 import android.graphics.Color;
 import android.util.Log;
@@ -46,7 +47,20 @@ public class MUNIVisualizerScript extends SXRScript {
 
 	private SXRNode map;
 
-	private Map<String, SXRNode> vehicles = new HashMap<>();
+	/**
+	 * Route that is not shown. Routes are interned by BusUpdate, so it is
+	 * compared by identity.
+	 */
+	private static final String HIDDEN_ROUTE = "25";
+
+	private static final String TRAIN = "train";
+
+	/**
+	 * Vehicle id to node, least recently updated first. When the pool is
+	 * exhausted the first entry is the one to evict.
+	 */
+	private LinkedHashMap<String, SXRNode> vehicles = new LinkedHashMap<>(
+			Constants.MAX_OBJECTS, 0.75f, true);
 
 	public MUNIVisualizerScript(MainActivity core) {
 		this.core = core;
@@ -96,31 +110,25 @@ public class MUNIVisualizerScript extends SXRScript {
 	public void onStep() {
 		List<BusUpdate> bs = tda.nextUpdates();
 		for (BusUpdate bu : bs) {
-			if (bu.getRoute().equals("25"))
+			if (bu.getRoute() == HIDDEN_ROUTE)
 				continue;
-			if (vehicles.containsKey(bu.getId())) {
-
-				if (bu.remove) {
-					SXRNode bus = vehicles.remove(bu.getId());
-				} else {
-					SXRNode bus = vehicles.get(bu.getId());
-					smoothSetBusPos(bus, bu.getLat(), bu.getLon());
+			if (bu.remove) {
+				SXRNode bus = vehicles.remove(bu.getId());
+				if (bus != null) {
+					busPool.add(resetPos(bus));
 				}
-
+				continue;
+			}
+			// get() also marks the vehicle as most recently updated
+			SXRNode bus = vehicles.get(bu.getId());
+			if (bus != null) {
+				smoothSetBusPos(bus, bu.getLat(), bu.getLon());
 			} else {
-				SXRNode bus = setBusPos(nextBus(), bu.getLat(),
-						bu.getLon());
-				if (vehicles.containsValue(bus)) {
-					String key = null;
-					for (Entry<String, SXRNode> e : vehicles.entrySet()) {
-						if (e.getValue().equals(bus)) {
-							key = e.getKey();
-							break;
-						}
-					}
-					vehicles.remove(key);
-				}
-				if (bu.getType().equals("train")) {
+				bus = nextBus();
+				if (bus == null)
+					continue;
+				bus = setBusPos(bus, bu.getLat(), bu.getLon());
+				if (bu.getType() == TRAIN) {
 					bus.getTransform().setScale(0.15f, 0.05f, 0.05f);
 					bus.getRenderData().getMaterial().setMainTexture(trainTex);
 				} else {
@@ -132,7 +140,10 @@ public class MUNIVisualizerScript extends SXRScript {
 		}
 	}
 
-	private Queue<SXRNode> busPool = new LinkedList<>();
+	/**
+	 * Nodes not assigned to any vehicle.
+	 */
+	private Queue<SXRNode> busPool = new ArrayDeque<>();
 
 	private void initBusObjectPool(int amt) {
 		for (int i = 0; i < amt; i++) {
@@ -145,9 +156,17 @@ public class MUNIVisualizerScript extends SXRScript {
 		return bus;
 	}
 
+	/**
+	 * Takes a free node, or the node of the least recently updated vehicle
+	 * if all of them are in use. Returns null if there is no node at all.
+	 */
 	private SXRNode nextBus() {
 		SXRNode bus = busPool.poll();
-		busPool.add(bus);
+		if (bus == null && !vehicles.isEmpty()) {
+			Iterator<SXRNode> eldest = vehicles.values().iterator();
+			bus = eldest.next();
+			eldest.remove();
+		}
 		return bus;
 	}
 
@@ -267,19 +286,44 @@ public class MUNIVisualizerScript extends SXRScript {
 	String type = "bus";
 
 	public void handleLongPress() {
-		if (type.equals("bus")) {
-			type = "train";
-		} else {
-			type = "bus";
-		}
-		initVehicles();
+		// vehicles, busPool and tda belong to the GL thread, see onStep()
+		mCtx.runOnGlThread(new Runnable() {
+			@Override
+			public void run() {
+				if (type.equals("bus")) {
+					type = "train";
+				} else {
+					type = "bus";
+				}
+				initVehicles();
+			}
+		});
 	}
 
+	/**
+	 * Drops every vehicle and reconnects for the current type. Must be
+	 * called on the GL thread.
+	 */
 	public void initVehicles() {
-		for (Entry<String, SXRNode> e : vehicles.entrySet()) {
-			resetPos(e.getValue());
+		for (SXRNode bus : vehicles.values()) {
+			busPool.add(resetPos(bus));
 		}
 		vehicles.clear();
-		tda = new TransitDataAccessor(type);
+		if (tda != null) {
+			tda.close();
+		}
+		tda = null;
+		if (Constants.REPLAY_ASSET != null) {
+			try {
+				tda = new TransitDataAccessor(type, new ReplaySource(core
+						.getAssets().open(Constants.REPLAY_ASSET),
+						Constants.REPLAY_SPEED));
+			} catch (IOException e) {
+				Log.e("VRTransit", "Cannot open " + Constants.REPLAY_ASSET, e);
+			}
+		}
+		if (tda == null) {
+			tda = new TransitDataAccessor(type);
+		}
 	}
 }
@@ -15,10 +15,11 @@ public class BusUpdate {
 
 	public BusUpdate(String id, String route, double lat, double lon, String type) {
 		this.id = id;
-		this.route = route;
+		// interned so the visualizer can compare routes and types by identity
+		this.route = route == null ? null : route.intern();
 		this.lat = lat;
 		this.lon = lon;
-		this.type = type;
+		this.type = type == null ? null : type.intern();
 	}
 
 	public String getId() {
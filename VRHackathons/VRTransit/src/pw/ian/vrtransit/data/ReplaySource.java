@@ -0,0 +1,94 @@
+package pw.ian.vrtransit.data;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+import android.util.Log;
+
+/**
+ * Feeds recorded vehicle updates into a {@link TransitDataAccessor} so the
+ * visualizer can run without Firebase.
+ * <p>
+ * The recording is a text file with one update per line:
+ *
+ * <pre>
+ * offsetMillis,event,id,routeTag,lat,lon,vtype
+ * </pre>
+ *
+ * where event is "remove" for removed vehicles and anything else for added
+ * or moved ones. Empty lines and lines starting with '#' are skipped. Lines
+ * are played back at their recorded offsets divided by the speed, a speed
+ * of 0 plays the whole file as one burst.
+ */
+public class ReplaySource implements Runnable {
+	private static final String TAG = "ReplaySource";
+
+	private final InputStream in;
+
+	private final float speed;
+
+	private volatile boolean running;
+
+	private Thread thread;
+
+	private TransitDataAccessor target;
+
+	public ReplaySource(InputStream in, float speed) {
+		this.in = in;
+		this.speed = speed;
+	}
+
+	void start(TransitDataAccessor target) {
+		this.target = target;
+		running = true;
+		thread = new Thread(this, TAG);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	void stop() {
+		running = false;
+		if (thread != null) {
+			thread.interrupt();
+		}
+	}
+
+	@Override
+	public void run() {
+		long start = System.currentTimeMillis();
+		int count = 0;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				in, "UTF-8"))) {
+			String line;
+			while (running && (line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith("#"))
+					continue;
+				String[] f = line.split(",");
+				if (f.length < 7) {
+					Log.w(TAG, "Skipping malformed line: " + line);
+					continue;
+				}
+				if (speed > 0) {
+					long due = start + (long) (Long.parseLong(f[0]) / speed);
+					long wait = due - System.currentTimeMillis();
+					if (wait > 0)
+						Thread.sleep(wait);
+				}
+				BusUpdate bu = new BusUpdate(f[2], f[3],
+						Double.parseDouble(f[4]), Double.parseDouble(f[5]),
+						f[6]);
+				bu.remove = f[1].equals("remove");
+				target.post(bu);
+				count++;
+			}
+		} catch (InterruptedException e) {
+			// stopped
+		} catch (IOException | NumberFormatException e) {
+			Log.e(TAG, "Replay failed", e);
+		}
+		Log.i(TAG, "Replayed " + count + " updates");
+	}
+}
@@ -1,8 +1,9 @@
 package pw.ian.vrtransit.data;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.Map;
 
 import pw.ian.vrtransit.Constants;
 
@@ -12,20 +13,32 @@ import com.firebase.client.Firebase;
 import com.firebase.client.FirebaseError;
 import com.firebase.client.Query;
 
+/**
+ * Collects vehicle updates of one type between frames.
+ * <p>
+ * Updates are coalesced per vehicle id, only the latest update of each
+ * vehicle survives until the next {@link #nextUpdates()}. The work done per
+ * frame is therefore bounded by the number of vehicles, not by how many
+ * messages arrived since the last frame.
+ */
 public class TransitDataAccessor {
-	private Query ref = new Firebase(
-			"https://publicdata-transit.firebaseio.com/sf-muni/vehicles")
-			.limitToLast(Constants.MAX_OBJECTS);
+	private Query ref;
 
-	private ArrayBlockingQueue<BusUpdate> pendingUpdates = new ArrayBlockingQueue<>(
-			10000);
+	private ChildEventListener listener;
+
+	private ReplaySource replay;
+
+	private Map<String, BusUpdate> pendingUpdates = new LinkedHashMap<>();
 
 	private String type;
 
+	/**
+	 * Streams live updates from Firebase.
+	 */
 	public TransitDataAccessor(String type) {
 		this.type = type;
 
-		ref.addChildEventListener(new ChildEventListener() {
+		listener = new ChildEventListener() {
 
 			@Override
 			public void onCancelled(FirebaseError arg0) {
@@ -35,26 +48,12 @@ public class TransitDataAccessor {
 
 			@Override
 			public void onChildAdded(DataSnapshot ds, String key) {
-				String id = ds.child("id").getValue(String.class);
-				String route = ds.child("routeTag").getValue(String.class);
-				double lat = ds.child("lat").getValue(Double.class);
-				double lon = ds.child("lon").getValue(Double.class);
-				String type = ds.child("vtype").getValue(String.class);
-				if (!type.equals(TransitDataAccessor.this.type))
-					return;
-				pendingUpdates.add(new BusUpdate(id, route, lat, lon, type));
+				post(read(ds));
 			}
 
 			@Override
 			public void onChildChanged(DataSnapshot ds, String prevKey) {
-				String id = ds.child("id").getValue(String.class);
-				String route = ds.child("routeTag").getValue(String.class);
-				double lat = ds.child("lat").getValue(Double.class);
-				double lon = ds.child("lon").getValue(Double.class);
-				String type = ds.child("vtype").getValue(String.class);
-				if (!type.equals(TransitDataAccessor.this.type))
-					return;
-				pendingUpdates.add(new BusUpdate(id, route, lat, lon, type));
+				post(read(ds));
 			}
 
 			@Override
@@ -65,24 +64,70 @@ public class TransitDataAccessor {
 
 			@Override
 			public void onChildRemoved(DataSnapshot ds) {
-				String id = ds.child("id").getValue(String.class);
-				String route = ds.child("routeTag").getValue(String.class);
-				double lat = ds.child("lat").getValue(Double.class);
-				double lon = ds.child("lon").getValue(Double.class);
-				String type = ds.child("vtype").getValue(String.class);
-				if (!type.equals(TransitDataAccessor.this.type))
-					return;
-				BusUpdate bu = new BusUpdate(id, route, lat, lon, type);
+				BusUpdate bu = read(ds);
 				bu.remove = true;
-				pendingUpdates.add(bu);
+				post(bu);
 			}
-		});
+		};
+		ref = new Firebase(
+				"https://publicdata-transit.firebaseio.com/sf-muni/vehicles")
+				.limitToLast(Constants.MAX_OBJECTS);
+		ref.addChildEventListener(listener);
+	}
+
+	/**
+	 * Plays back recorded updates instead of connecting to Firebase.
+	 */
+	public TransitDataAccessor(String type, ReplaySource replay) {
+		this.type = type;
+		this.replay = replay;
+		replay.start(this);
+	}
+
+	private static BusUpdate read(DataSnapshot ds) {
+		String id = ds.child("id").getValue(String.class);
+		String route = ds.child("routeTag").getValue(String.class);
+		double lat = ds.child("lat").getValue(Double.class);
+		double lon = ds.child("lon").getValue(Double.class);
+		String type = ds.child("vtype").getValue(String.class);
+		return new BusUpdate(id, route, lat, lon, type);
+	}
 
+	/**
+	 * Queues an update, replacing any pending update of the same vehicle.
+	 * Updates of other vehicle types are ignored.
+	 */
+	void post(BusUpdate bu) {
+		if (!type.equals(bu.getType()))
+			return;
+		synchronized (pendingUpdates) {
+			// remove first so the vehicle moves to the end of the order
+			pendingUpdates.remove(bu.getId());
+			pendingUpdates.put(bu.getId(), bu);
+		}
 	}
 
+	/**
+	 * Returns the latest pending update of every vehicle that changed since
+	 * the last call, in the order the updates arrived.
+	 */
 	public List<BusUpdate> nextUpdates() {
-		List<BusUpdate> ret = new ArrayList<>();
-		pendingUpdates.drainTo(ret);
-		return ret;
+		synchronized (pendingUpdates) {
+			List<BusUpdate> ret = new ArrayList<>(pendingUpdates.values());
+			pendingUpdates.clear();
+			return ret;
+		}
+	}
+
+	/**
+	 * Stops receiving updates.
+	 */
+	public void close() {
+		if (ref != null) {
+			ref.removeEventListener(listener);
+		}
+		if (replay != null) {
+			replay.stop();
+		}
 	}
 }
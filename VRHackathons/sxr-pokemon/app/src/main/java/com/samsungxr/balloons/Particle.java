@@ -35,17 +35,21 @@ class Particle extends SXRBehavior
         }
     }
 
+    /**
+     * Returns the position last set by {@link #setPosition(Vector3f)}.
+     * Particles are only moved through setPosition so the Java copy
+     * is kept authoritative and the transform is never read back.
+     */
     public Vector3f getPosition()
     {
-        Matrix4f localmtx = getOwnerObject().getTransform().getLocalModelMatrix4f();
-        localmtx.getTranslation(mCurPos);
         return mCurPos;
     }
     
     public void onAttach(SXRNode owner)
     {
         super.onAttach(owner);
-        getPosition();
+        Matrix4f localmtx = owner.getTransform().getLocalModelMatrix4f();
+        localmtx.getTranslation(mCurPos);
         mStartPos.x = mCurPos.x;
         mStartPos.y = mCurPos.y;
         mStartPos.z = mCurPos.z;
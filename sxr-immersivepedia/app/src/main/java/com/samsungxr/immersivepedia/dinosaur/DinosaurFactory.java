@@ -54,8 +54,25 @@ public class DinosaurFactory {
     private Dinosaur apatosaurus;
     private Dinosaur tRex;
 
-    private DinosaurFactory(SXRContext sxrContext) {
+    private final SharedAssetCache<SXRMesh> meshes;
+    private final SharedAssetCache<SXRTexture> textures;
+
+    private DinosaurFactory(final SXRContext sxrContext) {
         this.sxrContext = sxrContext;
+        meshes = new SharedAssetCache<SXRMesh>(new SharedAssetCache.Loader<SXRMesh>() {
+            @Override
+            public SXRMesh load(int resourceId) {
+                return sxrContext.getAssetLoader().loadMesh(
+                        new SXRAndroidResource(sxrContext, resourceId), settings);
+            }
+        });
+        textures = new SharedAssetCache<SXRTexture>(new SharedAssetCache.Loader<SXRTexture>() {
+            @Override
+            public SXRTexture load(int resourceId) {
+                return sxrContext.getAssetLoader().loadTexture(
+                        new SXRAndroidResource(sxrContext, resourceId));
+            }
+        });
         styracosaurus = createStyrocosaurus();
         ankylosaurus = createAnkylosaurus();
         apatosaurus = createApatosaurus();
@@ -81,24 +98,24 @@ public class DinosaurFactory {
     }
 
     private FocusableNode createDinosaur(int dinoMeshId, int dinoTextureId) {
-        SXRMesh baseMesh = sxrContext.getAssetLoader().loadMesh(new SXRAndroidResource(sxrContext, dinoMeshId), settings);
-        SXRTexture baseTexture = sxrContext.getAssetLoader().loadTexture(new SXRAndroidResource(sxrContext, dinoTextureId));
+        SXRMesh baseMesh = meshes.get(dinoMeshId);
+        SXRTexture baseTexture = textures.get(dinoTextureId);
         final FocusableNode dino = new FocusableNode(sxrContext, baseMesh, baseTexture);
 
         return dino;
     }
 
     private FocusableNode createDinosaurBase(int baseMeshId) {
-        SXRMesh baseMesh = sxrContext.getAssetLoader().loadMesh(new SXRAndroidResource(sxrContext, baseMeshId), settings);
-        SXRTexture baseTexture = sxrContext.getAssetLoader().loadTexture(new SXRAndroidResource(sxrContext, R.drawable.base_tex_diffuse));
+        SXRMesh baseMesh = meshes.get(baseMeshId);
+        SXRTexture baseTexture = textures.get(R.drawable.base_tex_diffuse);
         FocusableNode dinosaurBase = new FocusableNode(sxrContext, baseMesh, baseTexture);
         return dinosaurBase;
     }
 
     private FocusableNode createDinosaurGround(int groundMesh) {
 
-        SXRMesh mesh = sxrContext.getAssetLoader().loadMesh(new SXRAndroidResource(sxrContext, groundMesh), settings);
-        SXRTexture groundTexture = sxrContext.getAssetLoader().loadTexture(new SXRAndroidResource(sxrContext, R.raw.ground_tex_diffuse));
+        SXRMesh mesh = meshes.get(groundMesh);
+        SXRTexture groundTexture = textures.get(R.raw.ground_tex_diffuse);
         final FocusableNode dinosaurGround = new FocusableNode(sxrContext, mesh, groundTexture);
 
         return dinosaurGround;
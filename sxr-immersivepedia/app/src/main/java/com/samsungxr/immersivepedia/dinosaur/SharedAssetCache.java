@@ -0,0 +1,63 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.immersivepedia.dinosaur;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shares one loaded asset, such as an SXRMesh or SXRTexture, between every
+ * node built from the same resource. The cache belongs to the
+ * {@link DinosaurFactory} singleton and lives as long as the app, so assets
+ * are never evicted; in practice only the base and ground resources are
+ * requested more than once.
+ */
+class SharedAssetCache<T> {
+
+    /**
+     * Performs the actual load when a resource is not cached yet.
+     */
+    interface Loader<T> {
+        T load(int resourceId);
+    }
+
+    private final Loader<T> loader;
+    private final Map<Integer, T> assets = new HashMap<Integer, T>();
+    private int loadCount = 0;
+
+    SharedAssetCache(Loader<T> loader) {
+        this.loader = loader;
+    }
+
+    synchronized T get(int resourceId) {
+        T asset = assets.get(resourceId);
+        if (asset == null) {
+            asset = loader.load(resourceId);
+            loadCount++;
+            if (asset != null) {
+                assets.put(resourceId, asset);
+            }
+        }
+        return asset;
+    }
+
+    /**
+     * Number of times the underlying loader has been invoked.
+     */
+    synchronized int getLoadCount() {
+        return loadCount;
+    }
+}
@@ -15,12 +15,11 @@
 
 package com.samsungxr.immersivepedia.focus;
 
-import com.samsungxr.SXRAndroidResource;
 import com.samsungxr.SXRContext;
 import com.samsungxr.SXRNode;
 import com.samsungxr.immersivepedia.Main;
-import com.samsungxr.immersivepedia.R;
 import com.samsungxr.immersivepedia.input.TouchPadInput;
+import com.samsungxr.immersivepedia.util.TextureRegistry;
 
 public final class FocusableController {
 
@@ -68,9 +67,8 @@ public final class FocusableController {
     }
 
     private static boolean hasEmptyTexture(SXRContext sxrContext, SXRNode object) {
-        return object.getRenderData().getMaterial().getMainTexture() != null
-                && object.getRenderData().getMaterial().getMainTexture()
-                .equals(sxrContext.getAssetLoader().loadTexture(new SXRAndroidResource(sxrContext, R.drawable.empty)));
+        return TextureRegistry.get(sxrContext)
+                .isEmptyTexture(object.getRenderData().getMaterial().getMainTexture());
     }
 
 }
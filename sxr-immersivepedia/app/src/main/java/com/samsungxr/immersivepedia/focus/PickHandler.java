@@ -4,11 +4,20 @@ import com.samsungxr.SXREventListeners;
 import com.samsungxr.SXRPicker;
 import com.samsungxr.SXRNode;
 import com.samsungxr.immersivepedia.GazeController;
-import com.samsungxr.utility.Log;
 
 public class PickHandler extends SXREventListeners.PickEvents
 {
     public SXRNode PickedObject = null;
+    private final PickTracer tracer = new PickTracer(256);
+
+    /**
+     * Pick events are recorded here instead of being logged. Enable it
+     * and call {@link PickTracer#dump()} to see them.
+     */
+    public PickTracer getTracer()
+    {
+        return tracer;
+    }
 
     public void onEnter(SXRNode sceneObj, SXRPicker.SXRPickedObject pickInfo)
     {
@@ -16,7 +25,7 @@ public class PickHandler extends SXREventListeners.PickEvents
         {
             FocusableNode fo = (FocusableNode) sceneObj;
             PickedObject = fo;
-            Log.v("PICKER", sceneObj.getName() + " onEnter");
+            tracer.record(PickTracer.ENTER, sceneObj.getName());
             fo.setFocus(true);
             fo.dispatchInFocus();
             fo.hitLocation = pickInfo.getHitLocation();
@@ -36,7 +45,7 @@ public class PickHandler extends SXREventListeners.PickEvents
         FocusableNode fo = (FocusableNode) PickedObject;
         if (fo != null)
         {
-            Log.v("PICKER", fo.getName() + " onExit");
+            tracer.record(PickTracer.EXIT, fo.getName());
             fo.setFocus(false);
         }
     }
@@ -47,7 +56,7 @@ public class PickHandler extends SXREventListeners.PickEvents
         if (fo != null)
         {
             fo.setFocus(false);
-            Log.v("PICKER", fo.getName() + " onNoPick");
+            tracer.record(PickTracer.NO_PICK, fo.getName());
         }
         PickedObject = null;
         GazeController.get().disableInteractiveCursor();
@@ -0,0 +1,79 @@
+package com.samsungxr.immersivepedia.focus;
+
+import com.samsungxr.utility.Log;
+
+/**
+ * Keeps the most recent pick events in a fixed size ring buffer instead of
+ * logging each one as it happens. Recording only stores a timestamp, the
+ * event type and the node name, so it is cheap enough for the GL thread.
+ * The buffer is written to the log on demand with {@link #dump()}.
+ * Tracing is disabled by default.
+ */
+public class PickTracer
+{
+    public static final int ENTER = 0;
+    public static final int EXIT = 1;
+    public static final int NO_PICK = 2;
+
+    private static final String TAG = "PICKER";
+    private static final String[] TYPE_NAMES = { "onEnter", "onExit", "onNoPick" };
+
+    private final long[] times;
+    private final int[] types;
+    private final String[] names;
+    private int next = 0;
+    private int count = 0;
+    private volatile boolean enabled = false;
+
+    public PickTracer(int capacity)
+    {
+        times = new long[capacity];
+        types = new int[capacity];
+        names = new String[capacity];
+    }
+
+    public void setEnabled(boolean enabled)
+    {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public void record(int type, String name)
+    {
+        if (!enabled)
+        {
+            return;
+        }
+        synchronized (this)
+        {
+            times[next] = System.nanoTime();
+            types[next] = type;
+            names[next] = name;
+            next = (next + 1) % times.length;
+            if (count < times.length)
+            {
+                ++count;
+            }
+        }
+    }
+
+    /**
+     * Writes the recorded events to the log, oldest first, and empties the buffer.
+     */
+    public synchronized void dump()
+    {
+        int start = (next - count + times.length) % times.length;
+        for (int i = 0; i < count; ++i)
+        {
+            int j = (start + i) % times.length;
+            Log.d(TAG, times[j] + " " + names[j] + " " + TYPE_NAMES[types[j]]);
+            names[j] = null;
+        }
+        next = 0;
+        count = 0;
+    }
+}
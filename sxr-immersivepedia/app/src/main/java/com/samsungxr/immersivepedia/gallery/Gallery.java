@@ -30,6 +30,7 @@ import com.samsungxr.immersivepedia.props.Totem;
 import com.samsungxr.immersivepedia.props.TotemEventListener;
 import com.samsungxr.immersivepedia.util.AudioClip;
 import com.samsungxr.immersivepedia.util.RenderingOrderApplication;
+import com.samsungxr.immersivepedia.util.TextureRegistry;
 import com.samsungxr.io.SXRTouchPadGestureListener.Action;
 
 import java.util.ArrayList;
@@ -92,6 +93,7 @@ public class Gallery extends FocusableNode implements PhotoEventListener, TotemE
     private SXRContext sxrContext;
     private SXRCollider galleryCollider;
     private int[] photoIds;
+    private PhotoTextureLoader photoLoader;
 
     private SXRNode leftArrow;
     private SXRNode rightArrow;
@@ -166,6 +168,7 @@ public class Gallery extends FocusableNode implements PhotoEventListener, TotemE
         for (PhotoView view : this.photos) {
             view.appear();
         }
+        this.photoLoader.setPage(currentPage);
     }
 
     public void closeAction() {
@@ -178,10 +181,11 @@ public class Gallery extends FocusableNode implements PhotoEventListener, TotemE
         for (PhotoView view : this.photos) {
             view.disappear();
         }
+        this.photoLoader.release();
     }
 
     public Gallery(SXRContext sxrContext) {
-        super(sxrContext, GALLERY_WIDTH, GALLERY_HEIGHT, sxrContext.getAssetLoader().loadTexture(new SXRAndroidResource(sxrContext, R.drawable.empty_clickable)));
+        super(sxrContext, GALLERY_WIDTH, GALLERY_HEIGHT, TextureRegistry.get(sxrContext).getTexture(R.drawable.empty_clickable));
         this.sxrContext = sxrContext;
         this.getRenderData().setRenderingOrder(RenderingOrderApplication.GALLERY);
         this.setName("gallery");
@@ -260,6 +264,10 @@ public class Gallery extends FocusableNode implements PhotoEventListener, TotemE
     private void createInitialPhotos() {
         int index = 0;
 
+        this.photoLoader = new PhotoTextureLoader(this.sxrContext, this.photoIds, Gallery.COLS,
+                TextureRegistry.get(this.sxrContext).getEmptyTexture());
+        this.photoLoader.setViews(this.photos);
+
         PhotoGridItem centered = new PhotoGridItem();
         PhotoGridItem left = new PhotoGridItem();
         PhotoGridItem right = new PhotoGridItem();
@@ -375,6 +383,7 @@ public class Gallery extends FocusableNode implements PhotoEventListener, TotemE
 
         currentPage = currentPage - 2;
         updateScrollbar(true, this.currentPage);
+        this.photoLoader.setPage(currentPage);
 
         for (PhotoView view : this.photos) {
             view.slideUp(animated);
@@ -388,6 +397,7 @@ public class Gallery extends FocusableNode implements PhotoEventListener, TotemE
 
         currentPage = currentPage + 2;
         updateScrollbar(true, this.currentPage);
+        this.photoLoader.setPage(currentPage);
 
         for (PhotoView view : this.photos) {
             view.slideDown(animated);
@@ -471,6 +481,7 @@ public class Gallery extends FocusableNode implements PhotoEventListener, TotemE
             view.applyOpacityConstrants();
         }
         this.updateScrollbar(false, this.currentPage);
+        this.photoLoader.setPage(currentPage);
     }
 
     private void resetAllGridPositon() {
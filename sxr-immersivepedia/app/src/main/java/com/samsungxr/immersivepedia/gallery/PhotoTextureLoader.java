@@ -0,0 +1,169 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.immersivepedia.gallery;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.Log;
+
+import com.samsungxr.SXRBitmapImage;
+import com.samsungxr.SXRContext;
+import com.samsungxr.SXRTexture;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps the photo textures of a window of gallery rows resident. The window
+ * covers the rows on screen plus one page above and below, where a page is
+ * the two rows a scroll moves by. Photos entering the window are decoded on
+ * a background thread. Photos leaving it go back to the placeholder texture,
+ * so the number of decoded photos stays bounded whatever the gallery size.
+ * Textures are released as soon as they leave the window, {@link #release()}
+ * drops all of them and stops the decode thread while the gallery is closed.
+ */
+class PhotoTextureLoader {
+
+    private static final String TAG = PhotoTextureLoader.class.getSimpleName();
+
+    // Rows visible at once and rows moved by one scroll
+    private static final int ROWS_PER_PAGE = 2;
+
+    private final SXRContext sxrContext;
+    private final int[] photoIds;
+    private final int cols;
+    private final SXRTexture placeholder;
+    private final SXRTexture[] textures;
+    private final boolean[] requested;
+    private ExecutorService executor;
+    private List<PhotoView> views;
+    private int firstRow = -1;
+    private int lastRow = -1;
+
+    PhotoTextureLoader(SXRContext sxrContext, int[] photoIds, int cols, SXRTexture placeholder) {
+        this.sxrContext = sxrContext;
+        this.photoIds = photoIds;
+        this.cols = cols;
+        this.placeholder = placeholder;
+        this.textures = new SXRTexture[photoIds.length];
+        this.requested = new boolean[photoIds.length];
+    }
+
+    /**
+     * Sets the views the textures are applied to, indexed like the photo ids.
+     */
+    void setViews(List<PhotoView> views) {
+        this.views = views;
+    }
+
+    /**
+     * Moves the window so that it is centred on the page whose last visible
+     * row is {@code page}. Must be called on the GL thread.
+     */
+    void setPage(int page) {
+        int first = page - (2 * ROWS_PER_PAGE) + 1;
+        int last = page + ROWS_PER_PAGE;
+        if (first == firstRow && last == lastRow) {
+            return;
+        }
+        firstRow = first;
+        lastRow = last;
+
+        for (int index = 0; index < photoIds.length; index++) {
+            if (isInWindow(index)) {
+                load(index);
+            } else {
+                evict(index);
+            }
+        }
+    }
+
+    /**
+     * Releases every loaded photo texture and stops the decode thread. The
+     * next {@link #setPage(int)} starts loading again. Must be called on the
+     * GL thread.
+     */
+    void release() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        for (int index = 0; index < photoIds.length; index++) {
+            evict(index);
+        }
+        firstRow = -1;
+        lastRow = -1;
+    }
+
+    private boolean isInWindow(int index) {
+        int row = index / cols;
+        return row >= firstRow && row <= lastRow;
+    }
+
+    private void load(final int index) {
+        if (requested[index]) {
+            return;
+        }
+        requested[index] = true;
+        final int photoId = photoIds[index];
+
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor();
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final Bitmap bitmap = BitmapFactory.decodeResource(sxrContext.getContext().getResources(), photoId);
+                if (bitmap == null) {
+                    Log.w(TAG, "Unable to decode photo " + photoId);
+                    return;
+                }
+                sxrContext.runOnGlThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        // The window may have moved on while decoding
+                        if (!requested[index] || textures[index] != null) {
+                            return;
+                        }
+                        SXRTexture texture = new SXRTexture(sxrContext);
+                        texture.setImage(new SXRBitmapImage(sxrContext, bitmap));
+                        textures[index] = texture;
+                        apply(index);
+                    }
+                });
+            }
+        });
+    }
+
+    private void evict(int index) {
+        requested[index] = false;
+        SXRTexture texture = textures[index];
+        if (texture != null) {
+            textures[index] = null;
+            apply(index);
+            // Free the GPU copy now instead of waiting for the finalizer
+            texture.releaseNative();
+        }
+    }
+
+    private void apply(int index) {
+        if (views != null && index < views.size()) {
+            SXRTexture texture = textures[index] != null ? textures[index] : placeholder;
+            views.get(index).getRenderData().getMaterial().setMainTexture(texture);
+        }
+    }
+}
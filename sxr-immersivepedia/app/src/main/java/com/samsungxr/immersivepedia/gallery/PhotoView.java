@@ -17,7 +17,6 @@ package com.samsungxr.immersivepedia.gallery;
 
 import android.graphics.Color;
 
-import com.samsungxr.SXRAndroidResource;
 import com.samsungxr.SXRContext;
 import com.samsungxr.SXRMeshCollider;
 import com.samsungxr.SXRTexture;
@@ -31,6 +30,7 @@ import com.samsungxr.immersivepedia.focus.FocusableNode;
 import com.samsungxr.immersivepedia.input.TouchPadInput;
 import com.samsungxr.immersivepedia.util.AudioClip;
 import com.samsungxr.immersivepedia.util.RenderingOrderApplication;
+import com.samsungxr.immersivepedia.util.TextureRegistry;
 import com.samsungxr.io.SXRTouchPadGestureListener.Action;
 
 public class PhotoView extends FocusableNode implements FocusListener {
@@ -115,8 +115,8 @@ public class PhotoView extends FocusableNode implements FocusListener {
     }
 
     public PhotoView(SXRContext sxrContext, int photo) {
-        this(sxrContext, WIDTH, HEIGHT, sxrContext.getAssetLoader().loadTexture(new SXRAndroidResource(sxrContext,
-                photo)));
+        // The photo itself is set by the gallery's PhotoTextureLoader
+        this(sxrContext, WIDTH, HEIGHT, TextureRegistry.get(sxrContext).getEmptyTexture());
         this.sxrContext = sxrContext;
         this.photoId = photo;
 
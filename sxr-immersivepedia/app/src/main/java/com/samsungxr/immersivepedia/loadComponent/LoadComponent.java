@@ -15,7 +15,6 @@
 
 package com.samsungxr.immersivepedia.loadComponent;
 
-import com.samsungxr.SXRAndroidResource;
 import com.samsungxr.SXRContext;
 import com.samsungxr.SXRDrawFrameListener;
 import com.samsungxr.SXRMaterial;
@@ -27,6 +26,7 @@ import com.samsungxr.immersivepedia.focus.FocusListener;
 import com.samsungxr.immersivepedia.focus.FocusableNode;
 import com.samsungxr.immersivepedia.shader.CutoutShader;
 import com.samsungxr.immersivepedia.util.RenderingOrderApplication;
+import com.samsungxr.immersivepedia.util.TextureRegistry;
 
 public class LoadComponent extends SXRNode implements FocusListener {
 
@@ -90,11 +90,10 @@ public class LoadComponent extends SXRNode implements FocusListener {
     }
 
     private void loadTexture() {
-        circleAlphaTexture = sxrContext.getAssetLoader().loadTexture(new SXRAndroidResource(sxrContext,
-                R.drawable.loading_two__colors));
-        circleTexture = sxrContext.getAssetLoader().loadTexture(new SXRAndroidResource(sxrContext,
-                R.drawable.loading));
-        plusTexture = sxrContext.getAssetLoader().loadTexture(new SXRAndroidResource(sxrContext, R.drawable.plus));
+        TextureRegistry registry = TextureRegistry.get(sxrContext);
+        circleAlphaTexture = registry.getTexture(R.drawable.loading_two__colors);
+        circleTexture = registry.getTexture(R.drawable.loading);
+        plusTexture = registry.getTexture(R.drawable.plus);
     }
 
     public void setFloatTexture() {
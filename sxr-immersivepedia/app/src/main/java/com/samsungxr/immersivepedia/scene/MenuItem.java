@@ -33,6 +33,7 @@ import com.samsungxr.immersivepedia.focus.FocusableNode;
 import com.samsungxr.immersivepedia.shader.MenuImageShader;
 import com.samsungxr.immersivepedia.util.AudioClip;
 import com.samsungxr.immersivepedia.util.RenderingOrderApplication;
+import com.samsungxr.immersivepedia.util.TextureRegistry;
 import com.samsungxr.nodes.SXRTextViewNode;
 
 public class MenuItem extends FocusableNode {
@@ -73,7 +74,7 @@ public class MenuItem extends FocusableNode {
         attachRenderData(new SXRRenderData(sxrContext));
         getRenderData().setMaterial(new SXRMaterial(sxrContext));
         getRenderData().setMesh(sxrContext.createQuad(WIDTH, HEIGHT));
-        SXRTexture texture = sxrContext.getAssetLoader().loadTexture(new SXRAndroidResource(sxrContext, R.drawable.empty_clickable));
+        SXRTexture texture = TextureRegistry.get(sxrContext).getTexture(R.drawable.empty_clickable);
         getRenderData().getMaterial().setMainTexture(texture);
 
         frontObj = createNode(frontIdleRes, frontHoverRes);
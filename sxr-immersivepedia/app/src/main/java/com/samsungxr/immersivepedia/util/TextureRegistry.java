@@ -0,0 +1,70 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.immersivepedia.util;
+
+import android.util.SparseArray;
+
+import com.samsungxr.SXRAndroidResource;
+import com.samsungxr.SXRContext;
+import com.samsungxr.SXRTexture;
+import com.samsungxr.immersivepedia.R;
+
+/**
+ * Loads drawables which are used over and over again, such as the empty
+ * texture of invisible focus areas, only once per {@link SXRContext}. All
+ * callers get the same {@link SXRTexture} instance, so a texture can be
+ * recognised by identity.
+ * <p>
+ * Only the registry of the latest context is kept. The registry and its
+ * textures reference their context, so keeping one registry per context,
+ * even in a weak map, would keep every old context and its activity alive.
+ */
+public final class TextureRegistry {
+
+    private static TextureRegistry current;
+
+    private final SXRContext sxrContext;
+    private final SparseArray<SXRTexture> textures = new SparseArray<SXRTexture>();
+
+    private TextureRegistry(SXRContext sxrContext) {
+        this.sxrContext = sxrContext;
+    }
+
+    public static synchronized TextureRegistry get(SXRContext sxrContext) {
+        if (current == null || current.sxrContext != sxrContext) {
+            // a new context replaces the old one, drop its textures with it
+            current = new TextureRegistry(sxrContext);
+        }
+        return current;
+    }
+
+    public synchronized SXRTexture getTexture(int resourceId) {
+        SXRTexture texture = textures.get(resourceId);
+        if (texture == null) {
+            texture = sxrContext.getAssetLoader().loadTexture(new SXRAndroidResource(sxrContext, resourceId));
+            textures.put(resourceId, texture);
+        }
+        return texture;
+    }
+
+    public SXRTexture getEmptyTexture() {
+        return getTexture(R.drawable.empty);
+    }
+
+    public boolean isEmptyTexture(SXRTexture texture) {
+        return texture != null && texture == getEmptyTexture();
+    }
+}
@@ -27,6 +27,7 @@ import com.samsungxr.immersivepedia.R;
 import com.samsungxr.immersivepedia.focus.FocusListener;
 import com.samsungxr.immersivepedia.focus.FocusableNode;
 import com.samsungxr.immersivepedia.focus.OnClickListener;
+import com.samsungxr.immersivepedia.util.TextureRegistry;
 import com.samsungxr.nodes.SXRVideoNode;
 import com.samsungxr.nodes.SXRVideoNode.SXRVideoType;
 
@@ -82,8 +83,8 @@ public class VideoComponent extends SXRNode {
 
         mediaPlayer = MediaPlayer.create(sxrContext.getContext(), R.raw.dinos_videos_wip);
         video = new SXRVideoNode(sxrContext, WIDTH, HEIGHT, mediaPlayer, SXRVideoType.MONO);
-        focus = new FocusableNode(sxrContext, WIDTH, HEIGHT, sxrContext.getAssetLoader().loadTexture(new SXRAndroidResource(sxrContext,
-                R.drawable.empty_clickable)));
+        focus = new FocusableNode(sxrContext, WIDTH, HEIGHT,
+                TextureRegistry.get(sxrContext).getTexture(R.drawable.empty_clickable));
         focus.attachCollider(new SXRMeshCollider(sxrContext, false));
         focus.setName("video");
         focus.focusListener = new FocusListener() {
@@ -0,0 +1,81 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.immersivepedia.dinosaur;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class SharedAssetCacheTest {
+
+    private final List<Integer> loaded = new ArrayList<Integer>();
+    private boolean returnNull = false;
+    private SharedAssetCache<Object> cache;
+
+    @Before
+    public void setUp() {
+        cache = new SharedAssetCache<Object>(new SharedAssetCache.Loader<Object>() {
+            @Override
+            public Object load(int resourceId) {
+                loaded.add(resourceId);
+                return returnNull ? null : new Object();
+            }
+        });
+    }
+
+    @Test
+    public void sharedResourceIsLoadedOnce() {
+        Object first = cache.get(1);
+        Object second = cache.get(1);
+        Object third = cache.get(1);
+
+        assertSame(first, second);
+        assertSame(first, third);
+        assertEquals(1, cache.getLoadCount());
+        assertEquals(1, loaded.size());
+    }
+
+    @Test
+    public void eachResourceIsLoadedOnce() {
+        Object base = cache.get(1);
+        Object ground = cache.get(2);
+        cache.get(1);
+        cache.get(2);
+
+        assertNotSame(base, ground);
+        assertEquals(2, cache.getLoadCount());
+    }
+
+    @Test
+    public void failedLoadIsNotCached() {
+        returnNull = true;
+        assertNull(cache.get(3));
+        assertNull(cache.get(3));
+        assertEquals(2, cache.getLoadCount());
+
+        returnNull = false;
+        Object asset = cache.get(3);
+        assertSame(asset, cache.get(3));
+        assertEquals(3, cache.getLoadCount());
+    }
+}
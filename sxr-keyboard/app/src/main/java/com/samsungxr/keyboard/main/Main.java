@@ -50,7 +50,7 @@ import com.samsungxr.keyboard.model.SphereStaticList;
 import com.samsungxr.keyboard.shader.SXRShaderAnimation;
 import com.samsungxr.keyboard.shader.SphereShader;
 import com.samsungxr.keyboard.shader.TransparentButtonShaderThreeStates;
-import com.samsungxr.keyboard.speech.SoundWave;
+import com.samsungxr.keyboard.speech.BatchedSoundWave;
 import com.samsungxr.keyboard.spinner.Spinner;
 import com.samsungxr.keyboard.spinner.SpinnerItemFactory;
 import com.samsungxr.keyboard.textField.TextField;
@@ -79,7 +79,7 @@ public class Main extends SXRMain implements KeyboardEventListener {
     private Mic mMic;
     private MainActivity mMainActivity;
     private ExceptionFeedback exceptionFeedback;
-    private SoundWave soundWave1;
+    private BatchedSoundWave soundWave1;
     private static final int QUESTION_HEIGHT = 90;
     private static final int QUESTION_WIDTH = 4000;
     private final int QUESTION_LINE_LENGTH = 45;
@@ -269,7 +269,7 @@ public class Main extends SXRMain implements KeyboardEventListener {
     }
 
     private void createSoundWaves() {
-        soundWave1 = new SoundWave(mSXRContext, 13, 0, 10);
+        soundWave1 = new BatchedSoundWave(mSXRContext, 13, 0, 10);
         soundWave1.getTransform().setScale(0.5f, 0.5f, 0.5f);
         soundWave1.getTransform().setPositionY(1.0f);
         soundWave1.getTransform().setPositionX(0.32f);
@@ -0,0 +1,54 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.keyboard.shader;
+
+import android.content.Context;
+
+import com.samsungxr.SXRContext;
+import com.samsungxr.SXRShader;
+import com.samsungxr.SXRShaderData;
+import com.samsungxr.keyboard.R;
+import com.samsungxr.utility.TextFile;
+
+/**
+ * Draws every block of the sound wave from one mesh. Each vertex carries the
+ * column and row of its block; the number of lit blocks per column comes from
+ * the u_levels uniform array, four columns per float4.
+ */
+public class SoundWaveShader extends SXRShader {
+
+    public static final String TEXTURE_KEY = "u_texture";
+    public static final String LEVELS = "u_levels";
+    public static final String OPACITY = "u_opacity";
+
+    public static final int MAX_COLUMNS = 16;
+
+    public SoundWaveShader(SXRContext sxrContext) {
+        super("float4 u_levels[4] float u_opacity", "sampler2D u_texture",
+                "float3 a_position float2 a_texcoord float3 a_color float2 a_bar",
+                GLSLESVersion.VULKAN);
+        Context context = sxrContext.getContext();
+        setSegment("FragmentTemplate", TextFile.readTextFile(context, R.raw.soundwave_fragment));
+        setSegment("VertexTemplate", TextFile.readTextFile(context, R.raw.soundwave_vertex));
+    }
+
+    protected void setMaterialDefaults(SXRShaderData material)
+    {
+        material.setFloatArray(LEVELS, new float[MAX_COLUMNS]);
+        material.setFloat(OPACITY, 1);
+    }
+
+}
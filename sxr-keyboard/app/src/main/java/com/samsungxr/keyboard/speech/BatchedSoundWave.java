@@ -0,0 +1,206 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.keyboard.speech;
+
+import com.samsungxr.SXRAndroidResource;
+import com.samsungxr.SXRContext;
+import com.samsungxr.SXRMaterial;
+import com.samsungxr.SXRMesh;
+import com.samsungxr.SXRNode;
+import com.samsungxr.SXRRenderData;
+import com.samsungxr.SXRShaderId;
+import com.samsungxr.keyboard.R;
+import com.samsungxr.keyboard.mic.RecognitionRmsChangeListener;
+import com.samsungxr.keyboard.shader.SoundWaveShader;
+import com.samsungxr.keyboard.util.Constants;
+import com.samsungxr.keyboard.util.NodeNames;
+import com.samsungxr.keyboard.util.RenderingOrder;
+
+/**
+ * Same visualizer as {@link SoundWave} drawn from a single mesh with one
+ * texture. The number of lit blocks per column lives in a uniform array, so
+ * an RMS update is one material write instead of a change per block node.
+ */
+public class BatchedSoundWave extends SXRNode implements RecognitionRmsChangeListener {
+
+    private static final int BLOCKS = 5;
+    private static final float BLOCK_SIZE = 0.1f;
+    private static final float BLOCK_STEP = 0.11f;
+
+    private static final float[][] BLOCK_COLORS = {
+            { 230 / 255f, 72 / 255f, 50 / 255f },
+            { 209 / 255f, 60 / 255f, 43 / 255f },
+            { 186 / 255f, 47 / 255f, 35 / 255f },
+            { 163 / 255f, 34 / 255f, 27 / 255f },
+            { 142 / 255f, 22 / 255f, 20 / 255f }
+    };
+
+    private final int width;
+    private final float[] levels = new float[SoundWaveShader.MAX_COLUMNS];
+    private final SXRMaterial material;
+    private float minRange, maxRange;
+    private boolean canAnimate = false;
+
+    public BatchedSoundWave(SXRContext sxrContext, int width, float minRange, float maxRange) {
+
+        super(sxrContext);
+        if (width > SoundWaveShader.MAX_COLUMNS) {
+            throw new IllegalArgumentException("At most " + SoundWaveShader.MAX_COLUMNS
+                    + " columns are supported");
+        }
+        setName(NodeNames.SOUND_WAVE);
+        this.width = width;
+        this.minRange = minRange;
+        this.maxRange = maxRange;
+
+        material = new SXRMaterial(sxrContext, new SXRShaderId(SoundWaveShader.class));
+        material.setTexture(SoundWaveShader.TEXTURE_KEY,
+                sxrContext.getAssetLoader().loadTexture(
+                        new SXRAndroidResource(sxrContext, R.drawable.soundwave_wave_block)));
+
+        SXRRenderData renderData = new SXRRenderData(sxrContext);
+        renderData.setMesh(createMesh(sxrContext));
+        renderData.setMaterial(material);
+        renderData.setAlphaBlend(true);
+        renderData.setRenderingOrder(RenderingOrder.KEYBOARD_SOUND_WAVE);
+        attachRenderData(renderData);
+
+        hide();
+    }
+
+    /**
+     * One quad per block laid out like the nodes of {@link SoundWave}: column c
+     * at x = -0.11 * c, block b at y = -0.11 * b with block 0 on top.
+     */
+    private SXRMesh createMesh(SXRContext context) {
+
+        int quads = width * BLOCKS;
+        float[] vertices = new float[quads * 4 * 3];
+        float[] texCoords = new float[quads * 4 * 2];
+        float[] colors = new float[quads * 4 * 3];
+        float[] bars = new float[quads * 4 * 2];
+        int[] indices = new int[quads * 6];
+        float half = BLOCK_SIZE / 2;
+        int quad = 0;
+
+        for (int column = 0; column < width; column++) {
+            for (int block = 0; block < BLOCKS; block++, quad++) {
+
+                float x = -BLOCK_STEP * column;
+                float y = -BLOCK_STEP * block;
+                float[] corners = {
+                        x - half, y + half, x - half, y - half,
+                        x + half, y + half, x + half, y - half
+                };
+                float[] uvs = {
+                        0, 0, 0, 1, 1, 0, 1, 1
+                };
+
+                for (int v = 0; v < 4; v++) {
+                    int vertex = quad * 4 + v;
+
+                    vertices[vertex * 3] = corners[v * 2];
+                    vertices[vertex * 3 + 1] = corners[v * 2 + 1];
+                    vertices[vertex * 3 + 2] = 0;
+                    texCoords[vertex * 2] = uvs[v * 2];
+                    texCoords[vertex * 2 + 1] = uvs[v * 2 + 1];
+                    colors[vertex * 3] = BLOCK_COLORS[block][0];
+                    colors[vertex * 3 + 1] = BLOCK_COLORS[block][1];
+                    colors[vertex * 3 + 2] = BLOCK_COLORS[block][2];
+                    bars[vertex * 2] = column;
+                    // blocks are lit from the bottom up
+                    bars[vertex * 2 + 1] = BLOCKS - 1 - block;
+                }
+
+                int first = quad * 4;
+                indices[quad * 6] = first;
+                indices[quad * 6 + 1] = first + 1;
+                indices[quad * 6 + 2] = first + 2;
+                indices[quad * 6 + 3] = first + 1;
+                indices[quad * 6 + 4] = first + 3;
+                indices[quad * 6 + 5] = first + 2;
+            }
+        }
+
+        SXRMesh mesh = new SXRMesh(context,
+                "float3 a_position float2 a_texcoord float3 a_color float2 a_bar");
+        mesh.setVertices(vertices);
+        mesh.setTexCoords(texCoords);
+        mesh.setFloatArray("a_color", colors);
+        mesh.setFloatArray("a_bar", bars);
+        mesh.setIndices(indices);
+        return mesh;
+    }
+
+    public void update(float newSize, float newPositionX) {
+
+        float waveSize = newSize - 0.23f;
+        getTransform().setPositionX(newPositionX);
+        getTransform().setPositionY(0.1f);
+        getTransform().setPositionZ(Constants.CAMERA_DISTANCE);
+        getTransform().setScale(waveSize, 0.5f, 0.5f);
+    }
+
+    /**
+     * The newest sample enters at the leftmost column and older samples move
+     * one column to the right, as in {@link SoundWave}.
+     */
+    private void setColumn(float amplitude) {
+
+        float valueBlock = (maxRange - minRange) / BLOCKS;
+        int lit = 0;
+
+        for (int i = 0; i < BLOCKS; i++) {
+            if (valueBlock * (1 + i) <= amplitude || i == 0)
+                lit++;
+            else
+                break;
+        }
+
+        System.arraycopy(levels, 1, levels, 0, width - 1);
+        levels[width - 1] = lit;
+        material.setFloatArray(SoundWaveShader.LEVELS, levels);
+    }
+
+    public void enableAnimation() {
+
+        canAnimate = true;
+
+    }
+
+    private void hide() {
+
+        canAnimate = false;
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = 0;
+        }
+        material.setFloatArray(SoundWaveShader.LEVELS, levels);
+    }
+
+    @Override
+    public void onRmsChanged(float rmsdB) {
+
+        if (!canAnimate)
+            return;
+        setColumn(rmsdB);
+    }
+
+    @Override
+    public void onRmsEnd() {
+
+        hide();
+    }
+}
@@ -20,11 +20,13 @@ import com.samsungxr.SXRContext;
 import com.samsungxr.SXRTexture;
 import com.samsungxr.keyboard.textField.Text;
 import com.samsungxr.keyboard.textField.TextFieldItem;
+import com.samsungxr.keyboard.util.GlyphAtlas;
 import com.samsungxr.keyboard.util.SXRTextBitmapFactory;
 
 public class SpinnerItem extends TextFieldItem {
 
     private boolean cacheTestOn = true;
+    private SXRTexture atlasTexture;
 
     public SpinnerItem(SXRContext sxrContext, float sceneObjectWidth, float sceneObjectHeigth,
             int bitmapWidth, int bitmapHeigth, int position,
@@ -39,12 +41,16 @@ public class SpinnerItem extends TextFieldItem {
         if (cacheTestOn) {
 
             if (null != charItem) {
-                SXRBitmapImage tex = new SXRBitmapImage(context, SpinnerItemFactory.getInstance(
-                        getSXRContext()).getBitmap(charItem.getMode(),
-                        charItem.getPosition()));
-                SXRTexture texture = new SXRTexture(getSXRContext());
-                texture.setImage(tex);
-                getRenderData().getMaterial().setMainTexture(texture);
+                SpinnerItemFactory factory = SpinnerItemFactory.getInstance(getSXRContext());
+                GlyphAtlas atlas = factory.getAtlas();
+                SXRTexture texture = atlas.getTexture(getSXRContext());
+
+                if (atlasTexture != texture) {
+                    getRenderData().getMaterial().setMainTexture(texture);
+                    atlasTexture = texture;
+                }
+                getRenderData().getMesh().setTexCoords(atlas.getTexCoords(
+                        factory.getText(charItem.getMode(), charItem.getPosition())));
             }
 
         } else {
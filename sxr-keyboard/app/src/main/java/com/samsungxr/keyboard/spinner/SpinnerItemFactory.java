@@ -15,13 +15,13 @@
 
 package com.samsungxr.keyboard.spinner;
 
-import android.graphics.Bitmap;
 import android.graphics.Color;
 
 import com.samsungxr.SXRContext;
 import com.samsungxr.keyboard.keyboard.numeric.Keyboard;
 import com.samsungxr.keyboard.model.CharList;
 import com.samsungxr.keyboard.textField.Text;
+import com.samsungxr.keyboard.util.GlyphAtlas;
 import com.samsungxr.keyboard.util.SXRTextBitmapFactory;
 
 import java.util.ArrayList;
@@ -30,11 +30,17 @@ import java.util.List;
 public class SpinnerItemFactory {
 
     private static SpinnerItemFactory instance;
-    private List<Bitmap> numericBitmapList = new ArrayList<Bitmap>();
-    private List<Bitmap> alphaLowerBitmapList = new ArrayList<Bitmap>();
-    private List<Bitmap> alphaUpperBitmapList = new ArrayList<Bitmap>();
-    private List<Bitmap> specialBitmapList = new ArrayList<Bitmap>();
+    private static final int ATLAS_WIDTH = 1024;
+    private static final int ATLAS_HEIGHT = 1024;
+    private static final int ITEM_WIDTH = 45;
+    private static final int ITEM_HEIGHT = 72;
+
+    private List<String> numericTextList = new ArrayList<String>();
+    private List<String> alphaLowerTextList = new ArrayList<String>();
+    private List<String> alphaUpperTextList = new ArrayList<String>();
+    private List<String> specialTextList = new ArrayList<String>();
     private SXRContext sxrContext;
+    private GlyphAtlas atlas;
 
     public SpinnerItemFactory(SXRContext sxrContext) {
         this.sxrContext = sxrContext;
@@ -49,72 +55,77 @@ public class SpinnerItemFactory {
         return instance;
     }
 
-    private Bitmap createSpinnerItem(String spinnerText) {
+    private void createSpinnerItem(List<String> list, String spinnerText) {
 
-        int bitmapWidth = 45;
-        int bitmapHeigth = 72;
+        if (!atlas.add(spinnerText)) {
+            throw new IllegalStateException("Spinner glyph atlas is full");
+        }
+        list.add(spinnerText);
+    }
+
+    public void init() {
 
         Text text = new Text();
         text.textSize = 75;
-        // text.backgroundColor = Color.BLACK;
         text.backgroundColor = Color.parseColor("#00204d");
-        text.text = spinnerText;
 
-        return SXRTextBitmapFactory.create(sxrContext.getContext(), bitmapWidth, bitmapHeigth,
-                text, 0);
-    }
-
-    public void init() {
+        atlas = new GlyphAtlas(ATLAS_WIDTH, ATLAS_HEIGHT, ITEM_WIDTH, ITEM_HEIGHT,
+                SXRTextBitmapFactory.getTypeface(sxrContext.getContext(),
+                        SXRTextBitmapFactory.SPINNER_FONT),
+                text.textSize, text.textColor, text.backgroundColor);
 
         for (int i = 0; i < CharList.getInstance(sxrContext)
                 .getList(Keyboard.SOFT_KEYBOARD_LOWERCASE).size(); i++) {
-            alphaLowerBitmapList
-                    .add(createSpinnerItem(CharList.getInstance(sxrContext)
-                            .getList(Keyboard.SOFT_KEYBOARD_LOWERCASE).get(i)));
+            createSpinnerItem(alphaLowerTextList, CharList.getInstance(sxrContext)
+                    .getList(Keyboard.SOFT_KEYBOARD_LOWERCASE).get(i));
 
         }
 
         for (int i = 0; i < CharList.getInstance(sxrContext)
                 .getList(Keyboard.SOFT_KEYBOARD_UPPERCASE).size(); i++) {
-            alphaUpperBitmapList.add(createSpinnerItem(CharList.getInstance(sxrContext)
+            createSpinnerItem(alphaUpperTextList, CharList.getInstance(sxrContext)
                     .getList(Keyboard.SOFT_KEYBOARD_UPPERCASE).get(i)
-                    .toUpperCase()));
+                    .toUpperCase());
         }
 
         for (int i = 0; i < CharList.getInstance(sxrContext).getList(Keyboard.NUMERIC_KEYBOARD)
                 .size(); i++) {
-            numericBitmapList.add(createSpinnerItem(CharList.getInstance(sxrContext)
-                    .getList(Keyboard.NUMERIC_KEYBOARD).get(i)));
+            createSpinnerItem(numericTextList, CharList.getInstance(sxrContext)
+                    .getList(Keyboard.NUMERIC_KEYBOARD).get(i));
         }
 
         for (int i = 0; i < CharList.getInstance(sxrContext)
                 .getList(Keyboard.SOFT_KEYBOARD_SPECIAL).size(); i++) {
-            specialBitmapList.add(createSpinnerItem(CharList.getInstance(sxrContext)
-                    .getList(Keyboard.SOFT_KEYBOARD_SPECIAL).get(i)));
+            createSpinnerItem(specialTextList, CharList.getInstance(sxrContext)
+                    .getList(Keyboard.SOFT_KEYBOARD_SPECIAL).get(i));
         }
 
     }
 
-    public Bitmap getBitmap(int mode, int position) {
+    public GlyphAtlas getAtlas() {
+        return atlas;
+    }
+
+    public String getText(int mode, int position) {
         return getList(mode).get(position);
 
     }
 
-    public List<Bitmap> getList(int mode) {
-        List<Bitmap> list = null;
+    public List<String> getList(int mode) {
+        List<String> list = null;
 
         switch (mode) {
             case Keyboard.NUMERIC_KEYBOARD:
-                list = numericBitmapList;
+                list = numericTextList;
                 break;
             case Keyboard.SOFT_KEYBOARD_LOWERCASE:
-                list = alphaLowerBitmapList;
+                list = alphaLowerTextList;
                 break;
             case Keyboard.SOFT_KEYBOARD_SPECIAL:
-                list = specialBitmapList;
+                list = specialTextList;
                 break;
             case Keyboard.SOFT_KEYBOARD_UPPERCASE:
-                list = alphaUpperBitmapList;
+                list = alphaUpperTextList;
                 break;
         }
 
@@ -0,0 +1,42 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.keyboard.textField;
+
+import com.samsungxr.keyboard.model.CharItem;
+
+/**
+ * A character queued for the text field until the next GL flush.
+ */
+class PendingCharacter {
+
+    final int position;
+    final CharItem charItem;
+
+    PendingCharacter(int position, CharItem charItem) {
+        this.position = position;
+        this.charItem = charItem;
+    }
+
+    /**
+     * Position to insert at, given how many characters the field holds when
+     * the batch is applied. {@link TextField#LAST_CHARACTER} is resolved here
+     * rather than when typed, so it accounts for earlier characters of the
+     * same batch.
+     */
+    int resolvePosition(int count) {
+        return position == TextField.LAST_CHARACTER ? count : position;
+    }
+}
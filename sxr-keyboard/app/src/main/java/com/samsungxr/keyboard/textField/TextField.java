@@ -26,6 +26,7 @@ import com.samsungxr.keyboard.R;
 import com.samsungxr.keyboard.main.Main;
 import com.samsungxr.keyboard.model.CharItem;
 import com.samsungxr.keyboard.spinner.Spinner;
+import com.samsungxr.keyboard.util.CoalescingBuffer;
 import com.samsungxr.keyboard.util.RenderingOrder;
 import com.samsungxr.keyboard.util.NodeNames;
 import com.samsungxr.keyboard.util.Util;
@@ -46,6 +47,7 @@ public class TextField extends SXRNode {
     private int maxNumberOfCharecters;
     protected int currentCharPosition;
     private Spinner spinner;
+    private final CoalescingBuffer<PendingCharacter> pendingCharacters = new CoalescingBuffer<PendingCharacter>();
 
     public TextField(SXRContext sxrContext, Main main) {
         super(sxrContext);
@@ -71,7 +73,9 @@ public class TextField extends SXRNode {
 
     public void append(CharItem charItem) {
 
-        append(mListFieldItems.size(), charItem);
+        // resolved when the pending characters are applied, so characters
+        // typed before the previous ones reached the GL thread keep their order
+        append(LAST_CHARACTER, charItem);
     }
 
     public void append(final int position, final CharItem charItem) {
@@ -165,36 +169,46 @@ public class TextField extends SXRNode {
 
     private void addCharacter(final int position, final CharItem charItem) {
 
-        this.getSXRContext().runOnGlThread(new Runnable() {
-
-            @Override
-            public void run() {
-                if (mListFieldItems.size() < maxNumberOfCharecters) {
-                    float sceneObjectWidth = 0.19f;
-                    float sceneObjectHeigth = 0.29f;
-                    int bitmapWidth = 45;
-                    int bitmapHeigth = 78;
-
-                    Text text = new Text();
-                    text.textSize = 75;
-                    text.backgroundColor = Color.argb(0, 0, 0, 0);
-
-                    TextFieldItem character = new TextFieldItem(getSXRContext(),
-                            sceneObjectWidth, sceneObjectHeigth,
-                            bitmapWidth, bitmapHeigth,
-                            text, position);
-
-                    character.currentText.maxLength = 1;
-                    character.setText(getSXRContext(), charItem);
-                    character.getRenderData().setRenderingOrder(RenderingOrder.KEYBOARD);
-                    character.getTransform().setPosition(position * TEXT_WIDTH, 0, 0.7f);
-                    character.attachComponent(new SXRSphereCollider(getSXRContext()));
-                    mListFieldItems.add(position, character);
-                    addChildObject(character);
-                }
-            }
-        });
+        if (pendingCharacters.add(new PendingCharacter(position, charItem))) {
+            this.getSXRContext().runOnGlThread(flushPendingCharacters);
+        }
+    }
 
+    private final Runnable flushPendingCharacters = new Runnable() {
+
+        @Override
+        public void run() {
+            for (PendingCharacter pending : pendingCharacters.drain()) {
+                createCharacter(pending.resolvePosition(mListFieldItems.size()), pending.charItem);
+            }
+        }
+    };
+
+    private void createCharacter(int position, CharItem charItem) {
+
+        if (mListFieldItems.size() < maxNumberOfCharecters) {
+            float sceneObjectWidth = 0.19f;
+            float sceneObjectHeigth = 0.29f;
+            int bitmapWidth = 45;
+            int bitmapHeigth = 78;
+
+            Text text = new Text();
+            text.textSize = 75;
+            text.backgroundColor = Color.argb(0, 0, 0, 0);
+
+            TextFieldItem character = new TextFieldItem(getSXRContext(),
+                    sceneObjectWidth, sceneObjectHeigth,
+                    bitmapWidth, bitmapHeigth,
+                    text, position);
+
+            character.currentText.maxLength = 1;
+            character.setTextOnGlThread(getSXRContext(), charItem);
+            character.getRenderData().setRenderingOrder(RenderingOrder.KEYBOARD);
+            character.getTransform().setPosition(position * TEXT_WIDTH, 0, 0.7f);
+            character.attachComponent(new SXRSphereCollider(getSXRContext()));
+            mListFieldItems.add(position, character);
+            addChildObject(character);
+        }
     }
 
     public void cleanText() {
@@ -95,6 +95,22 @@ public class TextFieldItem extends SXRNode {
         this.charItem = charItem;
     }
 
+    /**
+     * Sets the character right away instead of posting to the GL thread.
+     * Must be called on the GL thread.
+     */
+    public void setTextOnGlThread(SXRContext sxrContext, CharItem charItem) {
+        this.charItem = charItem;
+
+        String newText = charItem.getCharacter();
+        if (newText.length() > currentText.maxLength) {
+            return;
+        }
+
+        currentText.text = newText;
+        updateText(sxrContext);
+    }
+
     public CharItem getCharItem() {
         return charItem;
     }
@@ -0,0 +1,64 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.keyboard.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects items from any thread and hands them over in arrival order in one
+ * batch. {@link #add(Object)} reports when a flush needs to be scheduled, so
+ * at most one flush is pending no matter how many items arrive before it runs.
+ */
+public class CoalescingBuffer<T> {
+
+    private List<T> pending = new ArrayList<T>();
+    private List<T> draining = new ArrayList<T>();
+    private boolean scheduled = false;
+
+    /**
+     * Queues an item.
+     *
+     * @return true if the caller must schedule a call to {@link #drain()}.
+     */
+    public synchronized boolean add(T item) {
+
+        pending.add(item);
+
+        if (scheduled) {
+            return false;
+        }
+
+        scheduled = true;
+        return true;
+    }
+
+    /**
+     * Takes every queued item, oldest first. Items added while the returned
+     * list is processed go into the next batch and schedule a new flush.
+     * The returned list is only valid until the next call.
+     */
+    public synchronized List<T> drain() {
+
+        List<T> batch = pending;
+        pending = draining;
+        draining = batch;
+        pending.clear();
+        scheduled = false;
+
+        return batch;
+    }
+}
@@ -0,0 +1,130 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.keyboard.util;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Paint.Style;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+import com.samsungxr.SXRBitmapImage;
+import com.samsungxr.SXRContext;
+import com.samsungxr.SXRTexture;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A single bitmap holding many text cells drawn with one font, size and set
+ * of colors. Nodes share the atlas texture and select their text through
+ * texture coordinates instead of each owning a bitmap.
+ */
+public class GlyphAtlas {
+
+    private static final int PADDING = 2;
+
+    private final GlyphPacker packer;
+    private final Bitmap bitmap;
+    private final Canvas canvas;
+    private final Paint paint;
+    private final Rect textBounds = new Rect();
+    private final int[] rect = new int[4];
+    private final int cellWidth;
+    private final int cellHeight;
+    private final Map<String, float[]> texCoords = new HashMap<String, float[]>();
+
+    private SXRTexture texture;
+    private boolean dirty;
+
+    public GlyphAtlas(int atlasWidth, int atlasHeight, int cellWidth, int cellHeight,
+            Typeface typeface, int textSize, int textColor, int backgroundColor) {
+
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+
+        packer = new GlyphPacker(atlasWidth, atlasHeight, PADDING);
+        bitmap = Bitmap.createBitmap(atlasWidth, atlasHeight, Bitmap.Config.ARGB_8888);
+        bitmap.eraseColor(backgroundColor);
+        canvas = new Canvas(bitmap);
+
+        paint = new Paint();
+        paint.setTypeface(typeface);
+        paint.setFlags(Paint.ANTI_ALIAS_FLAG);
+        paint.setStyle(Style.FILL);
+        paint.setTextSize(textSize);
+        paint.setFakeBoldText(true);
+        paint.setColor(textColor);
+        paint.setFilterBitmap(true);
+    }
+
+    /**
+     * Draws the text into its own cell unless it is already in the atlas.
+     *
+     * @return false if the atlas is full.
+     */
+    public synchronized boolean add(String text) {
+
+        if (texCoords.containsKey(text)) {
+            return true;
+        }
+
+        if (!packer.pack(cellWidth, cellHeight, rect)) {
+            return false;
+        }
+
+        paint.getTextBounds(text, 0, text.length(), textBounds);
+
+        canvas.save();
+        canvas.clipRect(rect[0], rect[1], rect[2], rect[3]);
+        canvas.drawText(text, rect[0] + cellWidth / 2 - textBounds.exactCenterX(),
+                rect[1] + cellHeight / 2 - textBounds.exactCenterY(), paint);
+        canvas.restore();
+
+        texCoords.put(text, packer.toTexCoords(rect));
+        dirty = true;
+
+        return true;
+    }
+
+    /**
+     * Returns the texture coordinates of the text's cell in SXRMesh.createQuad
+     * vertex order, or null if the text was never added.
+     */
+    public synchronized float[] getTexCoords(String text) {
+        return texCoords.get(text);
+    }
+
+    /**
+     * Returns the shared atlas texture, uploading the bitmap again if cells
+     * were added since the last call.
+     */
+    public synchronized SXRTexture getTexture(SXRContext sxrContext) {
+
+        if (texture == null) {
+            texture = new SXRTexture(sxrContext);
+            dirty = true;
+        }
+
+        if (dirty) {
+            texture.setImage(new SXRBitmapImage(sxrContext, bitmap));
+            dirty = false;
+        }
+
+        return texture;
+    }
+}
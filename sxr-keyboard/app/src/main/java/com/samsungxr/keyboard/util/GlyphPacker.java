@@ -0,0 +1,107 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.keyboard.util;
+
+/**
+ * Packs rectangles into a fixed size area using rows (shelves) that are
+ * filled left to right. It has no Android dependencies so the packing can be
+ * checked without a GPU.
+ */
+public class GlyphPacker {
+
+    private final int width;
+    private final int height;
+    private final int padding;
+
+    private int shelfX;
+    private int shelfY;
+    private int shelfHeight;
+
+    public GlyphPacker(int width, int height, int padding) {
+        this.width = width;
+        this.height = height;
+        this.padding = padding;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Reserves space for a rectangle.
+     *
+     * @param rectWidth The width of the rectangle.
+     * @param rectHeight The height of the rectangle.
+     * @param out Receives left, top, right and bottom of the reserved area.
+     * @return false if the rectangle does not fit in the remaining space.
+     */
+    public boolean pack(int rectWidth, int rectHeight, int[] out) {
+
+        int paddedWidth = rectWidth + 2 * padding;
+        int paddedHeight = rectHeight + 2 * padding;
+
+        if (paddedWidth > width) {
+            return false;
+        }
+
+        if (shelfX + paddedWidth > width) {
+            shelfY += shelfHeight;
+            shelfX = 0;
+            shelfHeight = 0;
+        }
+
+        if (shelfY + paddedHeight > height) {
+            return false;
+        }
+
+        out[0] = shelfX + padding;
+        out[1] = shelfY + padding;
+        out[2] = out[0] + rectWidth;
+        out[3] = out[1] + rectHeight;
+
+        shelfX += paddedWidth;
+        shelfHeight = Math.max(shelfHeight, paddedHeight);
+
+        return true;
+    }
+
+    /**
+     * Converts a packed pixel rectangle to texture coordinates in the vertex
+     * order of a quad created by SXRMesh.createQuad: top left, bottom left,
+     * top right, bottom right.
+     */
+    public float[] toTexCoords(int[] rect) {
+
+        float u0 = (float) rect[0] / width;
+        float v0 = (float) rect[1] / height;
+        float u1 = (float) rect[2] / width;
+        float v1 = (float) rect[3] / height;
+
+        return new float[] {
+                u0, v0, u0, v1, u1, v0, u1, v1
+        };
+    }
+
+    public void reset() {
+        shelfX = 0;
+        shelfY = 0;
+        shelfHeight = 0;
+    }
+}
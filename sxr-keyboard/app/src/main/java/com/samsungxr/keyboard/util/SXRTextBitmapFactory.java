@@ -41,7 +41,8 @@ import android.graphics.Typeface;
 
 import com.samsungxr.keyboard.textField.Text;
 
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * A class which creates Bitmaps with texts on them.
@@ -50,12 +51,32 @@ import java.util.ArrayList;
  */
 public class SXRTextBitmapFactory {
 
-    public static boolean cacheOn = true;
-    ArrayList<SXRTextBitmapFactory> cache = new ArrayList<>();
+    public static final String SPINNER_FONT = "fonts/futura-condensed-normal.ttf";
+
+    private static final Map<String, Typeface> typefaces = new HashMap<String, Typeface>();
 
     private SXRTextBitmapFactory() {
     }
 
+    /**
+     * Returns the typeface for a font asset, loading it only once.
+     *
+     * @param context The context whose assets hold the font.
+     * @param path The asset path of the font.
+     * @return The Typeface.
+     */
+    public static synchronized Typeface getTypeface(Context context, String path) {
+
+        Typeface typeface = typefaces.get(path);
+
+        if (typeface == null) {
+            typeface = Typeface.createFromAsset(context.getAssets(), path);
+            typefaces.put(path, typeface);
+        }
+
+        return typeface;
+    }
+
     /**
      * Creates a Bitmap with texts.
      *
@@ -116,8 +137,7 @@ public class SXRTextBitmapFactory {
 
     public static Bitmap create(Context context, float width, float height, Text text, int test) { // spinner
 
-        Typeface myTypeface = Typeface.createFromAsset(context.getAssets(),
-                "fonts/futura-condensed-normal.ttf");
+        Typeface myTypeface = getTypeface(context, SPINNER_FONT);
 
         Bitmap bitmap = Bitmap.createBitmap((int) width, (int) height, Bitmap.Config.ARGB_8888);
 
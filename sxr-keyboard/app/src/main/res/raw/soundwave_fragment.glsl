@@ -0,0 +1,18 @@
+#extension GL_ARB_separate_shader_objects : enable
+#extension GL_ARB_shading_language_420pack : enable
+precision mediump float;
+
+layout(location = 0) in vec2 coord;
+layout(location = 1) in vec3 color;
+layout(location = 2) in float lit;
+
+layout(binding = 4) uniform sampler2D u_texture;
+
+@MATERIAL_UNIFORMS
+
+layout(location = 0) out vec4 outColor;
+
+void main() {
+  vec4 block = texture(u_texture, coord);
+  outColor = vec4(block.rgb * color, block.a) * lit * u_opacity;
+}
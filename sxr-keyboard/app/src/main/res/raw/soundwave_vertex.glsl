@@ -0,0 +1,24 @@
+#extension GL_ARB_separate_shader_objects : enable
+#extension GL_ARB_shading_language_420pack : enable
+precision mediump float;
+
+layout(location = 0) in vec3 a_position;
+layout(location = 1) in vec2 a_texcoord;
+layout(location = 2) in vec3 a_color;
+layout(location = 3) in vec2 a_bar;
+
+layout(location = 0) out vec2 coord;
+layout(location = 1) out vec3 color;
+layout(location = 2) out float lit;
+
+@MATRIX_UNIFORMS
+@MATERIAL_UNIFORMS
+
+void main() {
+  int column = int(a_bar.x);
+  float level = u_levels[column / 4][column - (column / 4) * 4];
+  lit = (a_bar.y < level) ? 1.0 : 0.0;
+  coord = a_texcoord;
+  color = a_color;
+  gl_Position = u_mvp * vec4(a_position, 1.0);
+}
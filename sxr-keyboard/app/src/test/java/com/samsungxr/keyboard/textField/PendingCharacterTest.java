@@ -0,0 +1,84 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.keyboard.textField;
+
+import com.samsungxr.keyboard.model.CharItem;
+import com.samsungxr.keyboard.util.CoalescingBuffer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class PendingCharacterTest {
+
+    private static PendingCharacter pending(int position, String character) {
+        return new PendingCharacter(position, new CharItem(0, 0, character));
+    }
+
+    /**
+     * Applies a drained batch the way TextField does, with a list of
+     * char items standing in for the field items.
+     */
+    private static void apply(CoalescingBuffer<PendingCharacter> buffer, List<CharItem> field) {
+        for (PendingCharacter pending : buffer.drain()) {
+            field.add(pending.resolvePosition(field.size()), pending.charItem);
+        }
+    }
+
+    @Test
+    public void lastCharacterResolvesToCountAtApplyTime() {
+        assertEquals(0, pending(TextField.LAST_CHARACTER, "a").resolvePosition(0));
+        assertEquals(5, pending(TextField.LAST_CHARACTER, "a").resolvePosition(5));
+        assertEquals(2, pending(2, "a").resolvePosition(5));
+    }
+
+    @Test
+    public void appendsBatchedBeforeApplyKeepTypingOrder() {
+        CoalescingBuffer<PendingCharacter> buffer = new CoalescingBuffer<PendingCharacter>();
+        PendingCharacter h = pending(TextField.LAST_CHARACTER, "h");
+        PendingCharacter i = pending(TextField.LAST_CHARACTER, "i");
+        PendingCharacter bang = pending(TextField.LAST_CHARACTER, "!");
+        buffer.add(h);
+        buffer.add(i);
+        buffer.add(bang);
+
+        CharItem x = new CharItem(0, 0, "x");
+        List<CharItem> field = new ArrayList<CharItem>(Arrays.asList(x));
+        apply(buffer, field);
+
+        assertEquals(Arrays.asList(x, h.charItem, i.charItem, bang.charItem), field);
+    }
+
+    @Test
+    public void explicitPositionsMixWithAppends() {
+        CoalescingBuffer<PendingCharacter> buffer = new CoalescingBuffer<PendingCharacter>();
+        PendingCharacter a = pending(TextField.LAST_CHARACTER, "a");
+        PendingCharacter b = pending(0, "b");
+        PendingCharacter c = pending(TextField.LAST_CHARACTER, "c");
+        buffer.add(a);
+        buffer.add(b);
+        buffer.add(c);
+
+        List<CharItem> field = new ArrayList<CharItem>();
+        apply(buffer, field);
+
+        assertEquals(Arrays.asList(b.charItem, a.charItem, c.charItem), field);
+    }
+}
@@ -0,0 +1,113 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.keyboard.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CoalescingBufferTest {
+
+    @Test
+    public void onlyFirstAddSchedulesFlush() {
+        CoalescingBuffer<String> buffer = new CoalescingBuffer<String>();
+
+        assertTrue(buffer.add("a"));
+        assertFalse(buffer.add("b"));
+        assertFalse(buffer.add("c"));
+    }
+
+    @Test
+    public void drainReturnsAppendsInOrderAsOneBatch() {
+        CoalescingBuffer<String> buffer = new CoalescingBuffer<String>();
+        buffer.add("a");
+        buffer.add("b");
+        buffer.add("c");
+
+        assertEquals(Arrays.asList("a", "b", "c"), buffer.drain());
+        assertTrue(buffer.drain().isEmpty());
+    }
+
+    @Test
+    public void addAfterDrainSchedulesNextBatch() {
+        CoalescingBuffer<String> buffer = new CoalescingBuffer<String>();
+        buffer.add("a");
+        List<String> first = new ArrayList<String>(buffer.drain());
+
+        assertTrue(buffer.add("b"));
+        assertFalse(buffer.add("c"));
+        assertEquals(Arrays.asList("a"), first);
+        assertEquals(Arrays.asList("b", "c"), buffer.drain());
+    }
+
+    @Test
+    public void addWhileProcessingBatchGoesToNextBatch() {
+        CoalescingBuffer<String> buffer = new CoalescingBuffer<String>();
+        buffer.add("a");
+        buffer.add("b");
+
+        List<String> seen = new ArrayList<String>();
+        boolean rescheduled = false;
+        for (String item : buffer.drain()) {
+            seen.add(item);
+            if (item.equals("a")) {
+                rescheduled = buffer.add("c");
+            }
+        }
+
+        assertTrue(rescheduled);
+        assertEquals(Arrays.asList("a", "b"), seen);
+        assertEquals(Arrays.asList("c"), buffer.drain());
+    }
+
+    @Test
+    public void concurrentAddsScheduleOnceAndLoseNothing() throws InterruptedException {
+        final CoalescingBuffer<Integer> buffer = new CoalescingBuffer<Integer>();
+        final int perThread = 10000;
+        final int[] schedules = new int[4];
+        Thread[] threads = new Thread[schedules.length];
+        for (int t = 0; t < threads.length; t++) {
+            final int index = t;
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < perThread; i++) {
+                        if (buffer.add(i)) {
+                            schedules[index]++;
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int total = 0;
+        for (int count : schedules) {
+            total += count;
+        }
+        assertEquals(1, total);
+        assertEquals(perThread * threads.length, buffer.drain().size());
+    }
+}
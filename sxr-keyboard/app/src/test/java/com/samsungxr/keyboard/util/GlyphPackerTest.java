@@ -0,0 +1,121 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.keyboard.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GlyphPackerTest {
+
+    private static final float EPSILON = 1e-6f;
+
+    @Test
+    public void packsLeftToRightOnOneShelf() {
+        GlyphPacker packer = new GlyphPacker(100, 100, 1);
+        int[] rect = new int[4];
+
+        assertTrue(packer.pack(10, 20, rect));
+        assertArrayEquals(new int[] {1, 1, 11, 21}, rect);
+
+        assertTrue(packer.pack(30, 10, rect));
+        assertArrayEquals(new int[] {13, 1, 43, 11}, rect);
+    }
+
+    @Test
+    public void startsANewShelfBelowTheTallestRectangle() {
+        GlyphPacker packer = new GlyphPacker(50, 100, 1);
+        int[] rect = new int[4];
+
+        assertTrue(packer.pack(20, 10, rect));
+        assertTrue(packer.pack(20, 30, rect));
+        // 44 of 50 used, the next one does not fit on the first shelf
+        assertTrue(packer.pack(10, 5, rect));
+        assertArrayEquals(new int[] {1, 33, 11, 38}, rect);
+    }
+
+    @Test
+    public void packedRectanglesDoNotOverlap() {
+        GlyphPacker packer = new GlyphPacker(128, 128, 2);
+        List<int[]> packed = new ArrayList<int[]>();
+        int[] rect = new int[4];
+        for (int i = 0; packer.pack(7 + i % 5, 9 + i % 7, rect); i++) {
+            assertTrue(rect[0] >= 0 && rect[1] >= 0 && rect[2] <= 128 && rect[3] <= 128);
+            for (int[] other : packed) {
+                boolean apart = rect[2] <= other[0] || other[2] <= rect[0]
+                        || rect[3] <= other[1] || other[3] <= rect[1];
+                assertTrue(apart);
+            }
+            packed.add(rect.clone());
+        }
+        assertTrue(packed.size() > 50);
+    }
+
+    @Test
+    public void rectangleWiderThanTheAreaDoesNotFit() {
+        GlyphPacker packer = new GlyphPacker(32, 32, 1);
+        int[] rect = new int[4];
+
+        // 31 plus padding on both sides is 33
+        assertFalse(packer.pack(31, 4, rect));
+        assertTrue(packer.pack(30, 4, rect));
+    }
+
+    @Test
+    public void overflowReportsFalseAndResetFreesTheArea() {
+        GlyphPacker packer = new GlyphPacker(20, 20, 0);
+        int[] rect = new int[4];
+
+        assertTrue(packer.pack(20, 10, rect));
+        assertTrue(packer.pack(20, 10, rect));
+        assertFalse(packer.pack(1, 1, rect));
+        // a failed pack leaves the output alone
+        assertArrayEquals(new int[] {0, 10, 20, 20}, rect);
+
+        packer.reset();
+        assertTrue(packer.pack(20, 10, rect));
+        assertArrayEquals(new int[] {0, 0, 20, 10}, rect);
+    }
+
+    @Test
+    public void texCoordsFollowQuadVertexOrder() {
+        GlyphPacker packer = new GlyphPacker(200, 100, 0);
+
+        float[] uv = packer.toTexCoords(new int[] {50, 25, 100, 75});
+
+        // top left, bottom left, top right, bottom right
+        assertArrayEquals(new float[] {
+                0.25f, 0.25f,
+                0.25f, 0.75f,
+                0.5f, 0.25f,
+                0.5f, 0.75f
+        }, uv, EPSILON);
+    }
+
+    @Test
+    public void texCoordsOfTheWholeAreaSpanZeroToOne() {
+        GlyphPacker packer = new GlyphPacker(64, 32, 0);
+        int[] rect = new int[4];
+
+        assertTrue(packer.pack(64, 32, rect));
+        assertArrayEquals(new float[] {0, 0, 0, 1, 1, 0, 1, 1}, packer.toTexCoords(rect), EPSILON);
+    }
+}
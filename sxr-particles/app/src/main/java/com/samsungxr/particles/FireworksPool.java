@@ -0,0 +1,101 @@
+package com.samsungxr.particles;
+
+import com.samsungxr.SXRContext;
+import com.samsungxr.SXRNode;
+import com.samsungxr.SXRTexture;
+import com.samsungxr.particlesystem.SXRSphericalEmitter;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+
+/**
+ * Holds the fireworks scene node and the textures its emitters use so
+ * that the periodic fireworks rebuild never decodes or uploads a texture
+ * and never touches the scene graph above the fireworks root.
+ * <p>
+ * The particle system offers no way to restart a burst emitter, so
+ * {@link #rearm()} replaces the emitters under the pooled root with new
+ * ones built from the cached textures and velocity ranges.
+ */
+class FireworksPool
+{
+    private static final float[] PARTICLE_SIZES = { 10.0f, 15.0f, 12.0f, 11.0f };
+    private static final int[] EMIT_RATES = { 100, 150, 100, 100 };
+
+    private final SXRContext mContext;
+    private final SXRTexture[] mTextures;
+    private final Vector3f[] mMinVelocities;
+    private final Vector3f[] mMaxVelocities;
+    private final Vector3f mAcceleration = new Vector3f(0, -2.0f, 0);
+    private final SXRNode mRoot;
+    private final ArrayList<SXRSphericalEmitter> mEmitters = new ArrayList<SXRSphericalEmitter>();
+
+    /**
+     * @param textures one texture per emitter, loaded once by the caller
+     */
+    FireworksPool(SXRContext context, SXRTexture[] textures)
+    {
+        mContext = context;
+        mTextures = textures;
+        mMinVelocities = new Vector3f[] {
+                new Vector3f(0.1f,0.5f,0.3f),
+                new Vector3f(1.0f,1.0f,1.0f),
+                new Vector3f(1.5f,0.7f,1.0f),
+                new Vector3f(0.1f,1.0f,0.3f)
+        };
+        mMaxVelocities = new Vector3f[] {
+                new Vector3f(1.5f,2.0f,3.0f),
+                new Vector3f(2.0f,2.0f,2.0f),
+                new Vector3f(1.5f,1.8f,2.5f),
+                new Vector3f(1.3f,1.3f,4.0f)
+        };
+        mRoot = new SXRNode(context);
+    }
+
+    /**
+     * Stops the current burst and starts a new one at the given position.
+     */
+    SXRNode rearm(float x, float y, float z)
+    {
+        clear();
+        for (int i = 0; i < mTextures.length; ++i)
+        {
+            SXRSphericalEmitter emitter = createEmitter(i);
+            mEmitters.add(emitter);
+            mRoot.addChildObject(emitter);
+        }
+        mRoot.getTransform().setPosition(x, y, z);
+        return mRoot;
+    }
+
+    /**
+     * Stops all emitters and detaches them from the root.
+     * The textures stay cached.
+     */
+    void clear()
+    {
+        for (SXRSphericalEmitter emitter : mEmitters)
+        {
+            emitter.clearSystem();
+            mRoot.removeChildObject(emitter);
+        }
+        mEmitters.clear();
+    }
+
+    private SXRSphericalEmitter createEmitter(int i)
+    {
+        SXRSphericalEmitter emitter = new SXRSphericalEmitter(mContext);
+
+        emitter.setRadius(0.1f);
+        emitter.setFadeWithAge(true);
+        emitter.setParticleSize(PARTICLE_SIZES[i]);
+        emitter.setEmitRate(EMIT_RATES[i]);
+        emitter.setParticleAge(6.0f);
+        emitter.setBurstMode(true);
+        emitter.setVelocityRange(mMinVelocities[i], mMaxVelocities[i]);
+        emitter.setEnvironmentAcceleration(new Vector3f(mAcceleration));
+        emitter.setParticleTexture(mTextures[i]);
+        emitter.setParticleVolume(100, 100, 100);
+        return emitter;
+    }
+}
@@ -1,5 +1,7 @@
 package com.samsungxr.particles;
 
+import android.util.SparseArray;
+
 import com.samsungxr.SXRAndroidResource;
 import com.samsungxr.SXRContext;
 import com.samsungxr.SXRMain;
@@ -7,12 +9,10 @@ import com.samsungxr.SXRScene;
 import com.samsungxr.SXRNode;
 import com.samsungxr.SXRTexture;
 import com.samsungxr.particlesystem.SXRPlaneEmitter;
-import com.samsungxr.particlesystem.SXRSphericalEmitter;
 import org.joml.Vector3f;
 import org.joml.Vector4f;
 
 import java.io.IOException;
-import java.util.ArrayList;
 
 
 public class SampleMain extends SXRMain {
@@ -23,8 +23,10 @@ public class SampleMain extends SXRMain {
     SXRPlaneEmitter fire, smoke, stars;
 
     //for fireworks, have more than one emitter with different textures
-    ArrayList<SXRSphericalEmitter> fwEmitters;
-    SXRNode fw;
+    private FireworksPool mFireworks;
+
+    //particle textures are decoded once and shared by all systems
+    private final SparseArray<SXRTexture> mTextures = new SparseArray<SXRTexture>();
 
     private boolean enableFireworks = false;
     private long mElapsedTime = 0;
@@ -73,12 +75,8 @@ public class SampleMain extends SXRMain {
         if(smoke != null )
             smoke.clearSystem();
 
-        if (fwEmitters != null ) {
-            for (SXRSphericalEmitter em : fwEmitters)
-                if (em != null)
-                    em.clearSystem();
-            fwEmitters = null;
-        }
+        if (mFireworks != null )
+            mFireworks.clear();
     }
 
     private void switchSystem()
@@ -100,9 +98,7 @@ public class SampleMain extends SXRMain {
 
         else if ( counter == 1)
         {
-            fw = createFireworks();
-            fw.getTransform().setPosition(0, 10, -20.0f);
-            mSXRContext.getMainScene().addNode(fw);
+            mSXRContext.getMainScene().addNode(getFireworks().rearm(0, 10, -20.0f));
             enableFireworks = true;
         }
 
@@ -126,12 +122,7 @@ public class SampleMain extends SXRMain {
             long currTime = System.currentTimeMillis();
 
             if ( currTime - mElapsedTime > 6000 ) {
-                mSXRContext.getMainScene().removeAllNodes();
-                clearSystems();
-                fw = null;
-                fw = createFireworks();
-                fw.getTransform().setPosition(0,10, -20);
-                mSXRContext.getMainScene().addNode(fw);
+                getFireworks().rearm(0, 10, -20);
                 mElapsedTime = currTime;
             }
         }
@@ -140,8 +131,7 @@ public class SampleMain extends SXRMain {
     //---------------------------------------STARS-----------------------------------
     private SXRPlaneEmitter createstars()
     {
-        SXRTexture starsTexture = mSXRContext.getAssetLoader().loadTexture(
-                new SXRAndroidResource(mSXRContext, R.drawable.stars));
+        SXRTexture starsTexture = loadTexture(R.drawable.stars);
 
         SXRPlaneEmitter starsEmitter = new SXRPlaneEmitter(mSXRContext);
 
@@ -163,8 +153,7 @@ public class SampleMain extends SXRMain {
     //-----------------------------------------SMOKE-----------------------------------
     private  SXRPlaneEmitter createSmoke()
     {
-        SXRTexture smokeTexture = mSXRContext.getAssetLoader().loadTexture(
-                new SXRAndroidResource(mSXRContext, R.drawable.smoke));
+        SXRTexture smokeTexture = loadTexture(R.drawable.smoke);
 
         SXRPlaneEmitter smokeEmitter = new SXRPlaneEmitter(mSXRContext);
 
@@ -189,8 +178,7 @@ public class SampleMain extends SXRMain {
     private SXRPlaneEmitter createFire()
     {
         SXRPlaneEmitter fireEmitter = new SXRPlaneEmitter(mSXRContext);
-        SXRTexture texture = mSXRContext.getAssetLoader().loadTexture(
-                new SXRAndroidResource(mSXRContext, R.drawable.fire));
+        SXRTexture texture = loadTexture(R.drawable.fire);
 
         fireEmitter.setEmitRate(250);
         fireEmitter.setBurstMode(false);
@@ -211,91 +199,30 @@ public class SampleMain extends SXRMain {
 
 
     //---------------------------------------------FIREWORKS----------------------------------
-    private SXRNode createFireworks()
+    private FireworksPool getFireworks()
     {
-        ArrayList<SXRSphericalEmitter> fwEmits = createFireworkEmitters();
-        SXRNode fw = new SXRNode(mSXRContext);
-        for ( SXRSphericalEmitter emitter : fwEmits )
-            fw.addChildObject(emitter);
-
-        return fw;
+        if (mFireworks == null)
+        {
+            mFireworks = new FireworksPool(mSXRContext, new SXRTexture[] {
+                    loadTexture(R.drawable.stars),
+                    loadTexture(R.drawable.fire),
+                    loadTexture(R.drawable.fworks),
+                    loadTexture(R.drawable.smoke)
+            });
+        }
+        return mFireworks;
     }
 
 
-    private ArrayList<SXRSphericalEmitter> createFireworkEmitters()
+    private SXRTexture loadTexture(int resourceId)
     {
-
-        SXRTexture fireworksTexture1 = mSXRContext.getAssetLoader().loadTexture(
-                new SXRAndroidResource(mSXRContext, R.drawable.stars));
-
-        SXRTexture fireworksTexture2 = mSXRContext.getAssetLoader().loadTexture(
-                new SXRAndroidResource(mSXRContext, R.drawable.fire));
-
-        SXRTexture fireworksTexture3 = mSXRContext.getAssetLoader().loadTexture(
-                new SXRAndroidResource(mSXRContext, R.drawable.fworks));
-
-        SXRTexture fireworksTexture4 = mSXRContext.getAssetLoader().loadTexture(
-                new SXRAndroidResource(mSXRContext, R.drawable.smoke));
-
-
-        SXRSphericalEmitter fworksEmitter1 = new SXRSphericalEmitter(mSXRContext);
-        SXRSphericalEmitter fworksEmitter2 = new SXRSphericalEmitter(mSXRContext);
-        SXRSphericalEmitter fworksEmitter3 = new SXRSphericalEmitter(mSXRContext);
-        SXRSphericalEmitter fworksEmitter4 = new SXRSphericalEmitter(mSXRContext);
-
-        fworksEmitter1.setRadius(0.1f);
-        fworksEmitter1.setFadeWithAge(true);
-        fworksEmitter1.setParticleSize(10.0f);
-        fworksEmitter1.setEmitRate(100);
-        fworksEmitter1.setParticleAge(6.0f);
-        fworksEmitter1.setBurstMode(true);
-        fworksEmitter1.setVelocityRange(new Vector3f(0.1f,0.5f,0.3f), new Vector3f(1.5f,2.0f,3.0f));
-        fworksEmitter1.setEnvironmentAcceleration(new Vector3f(0,-2.0f,0));
-        fworksEmitter1.setParticleTexture(fireworksTexture1);
-
-        fworksEmitter2.setRadius(0.1f);
-        fworksEmitter2.setFadeWithAge(true);
-        fworksEmitter2.setParticleSize(15.0f);
-        fworksEmitter2.setEmitRate(150);
-        fworksEmitter2.setParticleAge(6f);
-        fworksEmitter2.setBurstMode(true);
-        fworksEmitter2.setVelocityRange(new Vector3f(1.0f,1.0f,1.0f), new Vector3f(2.0f,2.0f,2.0f));
-        fworksEmitter2.setEnvironmentAcceleration(new Vector3f(0,-2.0f,0));
-        fworksEmitter2.setParticleTexture(fireworksTexture2);
-
-        fworksEmitter3.setRadius(0.1f);
-        fworksEmitter3.setFadeWithAge(true);
-        fworksEmitter3.setParticleSize(12.0f);
-        fworksEmitter3.setEmitRate(100);
-        fworksEmitter3.setParticleAge(6.0f);
-        fworksEmitter3.setBurstMode(true);
-        fworksEmitter3.setEnvironmentAcceleration(new Vector3f(0,-2.0f,0));
-        fworksEmitter3.setVelocityRange(new Vector3f(1.5f,0.7f,1.0f), new Vector3f(1.5f,1.8f,2.5f));
-        fworksEmitter3.setParticleTexture(fireworksTexture3);
-
-        fworksEmitter4.setRadius(0.1f);
-        fworksEmitter4.setFadeWithAge(true);
-        fworksEmitter4.setParticleSize(11.0f);
-        fworksEmitter4.setEmitRate(100);
-        fworksEmitter4.setParticleAge(6);
-        fworksEmitter4.setBurstMode(true);
-        fworksEmitter4.setVelocityRange(new Vector3f(0.1f,1.0f,0.3f), new Vector3f(1.3f,1.3f,4.0f));
-        fworksEmitter4.setEnvironmentAcceleration(new Vector3f(0,-2.0f,0));
-        fworksEmitter4.setParticleTexture(fireworksTexture4);
-
-
-        fworksEmitter1.setParticleVolume(100, 100, 100);
-        fworksEmitter2.setParticleVolume(100, 100, 100);
-        fworksEmitter3.setParticleVolume(100, 100, 100);
-        fworksEmitter4.setParticleVolume(100, 100, 100);
-
-        fwEmitters = new ArrayList<SXRSphericalEmitter>();
-
-        fwEmitters.add(fworksEmitter1);
-        fwEmitters.add(fworksEmitter2);
-        fwEmitters.add(fworksEmitter3);
-        fwEmitters.add(fworksEmitter4);
-
-        return fwEmitters;
+        SXRTexture texture = mTextures.get(resourceId);
+        if (texture == null)
+        {
+            texture = mSXRContext.getAssetLoader().loadTexture(
+                    new SXRAndroidResource(mSXRContext, resourceId));
+            mTextures.put(resourceId, texture);
+        }
+        return texture;
     }
 }
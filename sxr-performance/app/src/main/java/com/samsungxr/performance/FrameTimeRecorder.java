@@ -0,0 +1,174 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.performance;
+
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Records per-frame durations in a fixed size rolling window and reports
+ * percentile statistics over it. Timestamps are passed in by the caller so
+ * the recorder can be driven with synthetic values as well as with
+ * {@link System#nanoTime()}.
+ */
+class FrameTimeRecorder {
+    private static final String TAG = "FrameTimeRecorder";
+    private static final double NANOS_PER_MILLI = 1000000.0;
+
+    private final long[] mDurations;
+    private long[] mSorted;
+    private int mNext = 0;
+    private int mCount = 0;
+    private long mLastTimestamp = -1;
+    private long mTotalFrames = 0;
+
+    FrameTimeRecorder(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive");
+        }
+        mDurations = new long[windowSize];
+        mSorted = new long[windowSize];
+    }
+
+    /**
+     * Marks the start of a frame. The first call only establishes the
+     * reference timestamp; each later call records the time since the
+     * previous one.
+     */
+    synchronized void onFrame(long timestampNanos) {
+        if (mLastTimestamp >= 0) {
+            mDurations[mNext] = timestampNanos - mLastTimestamp;
+            mNext = (mNext + 1) % mDurations.length;
+            if (mCount < mDurations.length) {
+                ++mCount;
+            }
+            ++mTotalFrames;
+        }
+        mLastTimestamp = timestampNanos;
+    }
+
+    synchronized void reset() {
+        mNext = 0;
+        mCount = 0;
+        mLastTimestamp = -1;
+        mTotalFrames = 0;
+    }
+
+    /**
+     * Returns a snapshot of the statistics for the frames currently in the
+     * window, or null if no frame has been recorded yet.
+     */
+    synchronized Stats getStats() {
+        if (mCount == 0) {
+            return null;
+        }
+        System.arraycopy(mDurations, 0, mSorted, 0, mCount);
+        Arrays.sort(mSorted, 0, mCount);
+        return new Stats(mCount, mTotalFrames,
+                percentile(0.50), percentile(0.95), percentile(0.99),
+                mSorted[mCount - 1]);
+    }
+
+    private long percentile(double p) {
+        int index = (int) Math.ceil(p * mCount) - 1;
+        if (index < 0) {
+            index = 0;
+        }
+        return mSorted[index];
+    }
+
+    void log() {
+        Stats stats = getStats();
+        if (stats == null) {
+            Log.i(TAG, "no frames recorded");
+        } else {
+            Log.i(TAG, stats.toString());
+        }
+    }
+
+    /**
+     * Writes the frame durations in the window, oldest first, followed by
+     * the summary line to a CSV file.
+     */
+    void writeCsv(File file) throws IOException {
+        long[] durations;
+        Stats stats;
+        synchronized (this) {
+            durations = new long[mCount];
+            int start = (mNext - mCount + mDurations.length) % mDurations.length;
+            for (int i = 0; i < mCount; ++i) {
+                durations[i] = mDurations[(start + i) % mDurations.length];
+            }
+            stats = getStats();
+        }
+
+        PrintWriter writer = new PrintWriter(new FileWriter(file));
+        try {
+            writer.println("frame,duration_ms");
+            for (int i = 0; i < durations.length; ++i) {
+                writer.println(i + "," + toMillis(durations[i]));
+            }
+            if (stats != null) {
+                writer.println();
+                writer.println("frames,p50_ms,p95_ms,p99_ms,worst_ms");
+                writer.println(stats.frames + "," + toMillis(stats.p50) + ","
+                        + toMillis(stats.p95) + "," + toMillis(stats.p99) + ","
+                        + toMillis(stats.worst));
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.US, "%.3f", nanos / NANOS_PER_MILLI);
+    }
+
+    static final class Stats {
+        /** Number of frames in the window the percentiles were taken over. */
+        final int frames;
+        /** Number of frames recorded since the last reset. */
+        final long totalFrames;
+        final long p50;
+        final long p95;
+        final long p99;
+        final long worst;
+
+        Stats(int frames, long totalFrames, long p50, long p95, long p99, long worst) {
+            this.frames = frames;
+            this.totalFrames = totalFrames;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+            this.worst = worst;
+        }
+
+        @Override
+        public String toString() {
+            return "frames=" + frames + "/" + totalFrames
+                    + " p50=" + toMillis(p50) + "ms"
+                    + " p95=" + toMillis(p95) + "ms"
+                    + " p99=" + toMillis(p99) + "ms"
+                    + " worst=" + toMillis(worst) + "ms";
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.performance;
+
+import com.samsungxr.SXRAndroidResource;
+import com.samsungxr.SXRContext;
+import com.samsungxr.SXRImportSettings;
+import com.samsungxr.SXRMesh;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps one {@link SXRMesh} per asset path so that every node built from the
+ * same file shares a single parsed and uploaded mesh.
+ */
+class MeshCache {
+
+    /**
+     * Performs the actual load when a path is not cached yet.
+     */
+    interface Loader {
+        SXRMesh load(String path) throws IOException;
+    }
+
+    private final Map<String, SXRMesh> mMeshes = new HashMap<String, SXRMesh>();
+    private final Loader mLoader;
+    private int mLoadCount = 0;
+
+    MeshCache(Loader loader) {
+        mLoader = loader;
+    }
+
+    MeshCache(final SXRContext context, final EnumSet<SXRImportSettings> settings) {
+        this(new Loader() {
+            @Override
+            public SXRMesh load(String path) throws IOException {
+                return context.getAssetLoader().loadMesh(
+                        new SXRAndroidResource(context, path), settings);
+            }
+        });
+    }
+
+    /**
+     * Returns the mesh for the given asset path, loading it on first use.
+     */
+    synchronized SXRMesh get(String path) throws IOException {
+        SXRMesh mesh = mMeshes.get(path);
+        if (mesh == null) {
+            mesh = mLoader.load(path);
+            ++mLoadCount;
+            if (mesh != null) {
+                mMeshes.put(path, mesh);
+            }
+        }
+        return mesh;
+    }
+
+    /**
+     * Number of times the underlying loader has been invoked.
+     */
+    synchronized int getLoadCount() {
+        return mLoadCount;
+    }
+
+    synchronized void clear() {
+        mMeshes.clear();
+    }
+}
@@ -21,11 +21,21 @@ import com.samsungxr.SXRActivity;
 import android.os.Bundle;
 
 public class TestActivity extends SXRActivity {
+    private TestMain mMain;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
-        setMain(new TestMain(this), "sxr.xml");
+        mMain = new TestMain(this);
+        setMain(mMain, "sxr.xml");
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        if (isFinishing()) {
+            mMain.dumpFrameTimes();
+        }
     }
 
 }
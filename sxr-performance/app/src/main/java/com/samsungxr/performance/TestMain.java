@@ -33,6 +33,7 @@ import com.samsungxr.animation.SXRAnimationEngine;
 import com.samsungxr.animation.SXRRepeatMode;
 import com.samsungxr.animation.SXRRotationByAxisWithPivotAnimation;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.EnumSet;
 import java.util.List;
@@ -45,6 +46,10 @@ public class TestMain extends SXRMain {
     private static final String TAG = "TestMain";
     private static final int numberOfBunnies = 20;
     private static final String TEXTURE_FILE_NAME = "textures.zip";
+    private static final String MESH_FILE_NAME = "bunny.obj";
+    private static final String FRAME_TIMES_FILE_NAME = "frame_times.csv";
+    private static final int FRAME_WINDOW_SIZE = 1000;
+    private static final int FRAMES_PER_REPORT = 600;
 
     private SXRScene mMainScene = null;
 
@@ -52,6 +57,9 @@ public class TestMain extends SXRMain {
 
     private SXRActivity mActivity;
 
+    private final FrameTimeRecorder mFrameTimes = new FrameTimeRecorder(FRAME_WINDOW_SIZE);
+    private int mFramesSinceReport = 0;
+
     TestMain(SXRActivity activity) {
         mActivity = activity;
     }
@@ -91,14 +99,14 @@ public class TestMain extends SXRMain {
             });
 
             int numTextures = textures.size();
+            EnumSet<SXRImportSettings> settings = SXRImportSettings.getRecommendedSettingsWith(EnumSet.of(NO_LIGHTING));
+            MeshCache meshCache = new MeshCache(sxrContext, settings);
             for (int i = 0; i < numberOfBunnies; ++i) {
 
                 SXRNode bunny;
-                EnumSet<SXRImportSettings> settings = SXRImportSettings.getRecommendedSettingsWith(EnumSet.of(NO_LIGHTING));
                 // we assume that the mesh and the textures are valid
                 bunny = new SXRNode(sxrContext,
-                        sxrContext.getAssetLoader().loadMesh(new SXRAndroidResource(sxrContext,
-                                "bunny.obj"), settings), textures.get(i % numTextures));
+                        meshCache.get(MESH_FILE_NAME), textures.get(i % numTextures));
 
                 Random random = new Random();
 
@@ -142,6 +150,22 @@ public class TestMain extends SXRMain {
 
     @Override
     public void onStep() {
+        mFrameTimes.onFrame(System.nanoTime());
+        if (++mFramesSinceReport >= FRAMES_PER_REPORT) {
+            mFramesSinceReport = 0;
+            mFrameTimes.log();
+        }
+    }
+
+    void dumpFrameTimes() {
+        mFrameTimes.log();
+        File file = new File(mActivity.getExternalFilesDir(null), FRAME_TIMES_FILE_NAME);
+        try {
+            mFrameTimes.writeCsv(file);
+            Log.i(TAG, "frame times written to " + file.getAbsolutePath());
+        } catch (IOException e) {
+            Log.e(TAG, "could not write frame times to " + file.getAbsolutePath(), e);
+        }
     }
 
 }
@@ -0,0 +1,138 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.performance;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FrameTimeRecorderTest {
+    private static final long MS = 1000000L;
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    /**
+     * Feeds frames of the given durations, in milliseconds, starting at 0.
+     */
+    private static void feed(FrameTimeRecorder recorder, long... durationsMs) {
+        long now = 0;
+        recorder.onFrame(now);
+        for (long d : durationsMs) {
+            now += d * MS;
+            recorder.onFrame(now);
+        }
+    }
+
+    @Test
+    public void firstFrameOnlySetsReference() {
+        FrameTimeRecorder recorder = new FrameTimeRecorder(8);
+        assertNull(recorder.getStats());
+
+        recorder.onFrame(123 * MS);
+        assertNull(recorder.getStats());
+
+        recorder.onFrame(133 * MS);
+        FrameTimeRecorder.Stats stats = recorder.getStats();
+        assertEquals(1, stats.frames);
+        assertEquals(10 * MS, stats.worst);
+    }
+
+    @Test
+    public void nearestRankPercentiles() {
+        FrameTimeRecorder recorder = new FrameTimeRecorder(100);
+        long[] durations = new long[100];
+        // feed 100..1 so the recorder has to sort
+        for (int i = 0; i < durations.length; ++i) {
+            durations[i] = durations.length - i;
+        }
+        feed(recorder, durations);
+
+        FrameTimeRecorder.Stats stats = recorder.getStats();
+        assertEquals(100, stats.frames);
+        assertEquals(50 * MS, stats.p50);
+        assertEquals(95 * MS, stats.p95);
+        assertEquals(99 * MS, stats.p99);
+        assertEquals(100 * MS, stats.worst);
+    }
+
+    @Test
+    public void smallWindowRoundsRankUp() {
+        FrameTimeRecorder recorder = new FrameTimeRecorder(10);
+        feed(recorder, 10, 20, 30);
+
+        FrameTimeRecorder.Stats stats = recorder.getStats();
+        // ceil(0.5 * 3) = 2nd smallest, ceil(0.95 * 3) = 3rd smallest
+        assertEquals(20 * MS, stats.p50);
+        assertEquals(30 * MS, stats.p95);
+        assertEquals(30 * MS, stats.p99);
+    }
+
+    @Test
+    public void windowWrapsAndKeepsNewestFrames() {
+        FrameTimeRecorder recorder = new FrameTimeRecorder(4);
+        feed(recorder, 100, 100, 1, 2, 3, 4);
+
+        FrameTimeRecorder.Stats stats = recorder.getStats();
+        assertEquals(4, stats.frames);
+        assertEquals(6, stats.totalFrames);
+        assertEquals(4 * MS, stats.worst);
+        assertEquals(2 * MS, stats.p50);
+    }
+
+    @Test
+    public void resetDropsWindowAndReference() {
+        FrameTimeRecorder recorder = new FrameTimeRecorder(4);
+        feed(recorder, 5, 5);
+        recorder.reset();
+        assertNull(recorder.getStats());
+
+        recorder.onFrame(1000 * MS);
+        assertNull(recorder.getStats());
+        recorder.onFrame(1007 * MS);
+        assertEquals(7 * MS, recorder.getStats().worst);
+        assertEquals(1, recorder.getStats().totalFrames);
+    }
+
+    @Test
+    public void csvListsWrappedWindowOldestFirst() throws IOException {
+        FrameTimeRecorder recorder = new FrameTimeRecorder(3);
+        feed(recorder, 9, 1, 2, 3);
+        File file = mFolder.newFile("frames.csv");
+        recorder.writeCsv(file);
+
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            assertEquals("frame,duration_ms", reader.readLine());
+            assertEquals("0,1.000", reader.readLine());
+            assertEquals("1,2.000", reader.readLine());
+            assertEquals("2,3.000", reader.readLine());
+            assertEquals("", reader.readLine());
+            assertEquals("frames,p50_ms,p95_ms,p99_ms,worst_ms", reader.readLine());
+            assertEquals("3,2.000,3.000,3.000,3.000", reader.readLine());
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.performance;
+
+import com.samsungxr.SXRMesh;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class MeshCacheTest {
+
+    private final List<String> mLoaded = new ArrayList<String>();
+    private boolean mReturnNull = false;
+    private MeshCache mCache;
+
+    @Before
+    public void setUp() {
+        mCache = new MeshCache(new MeshCache.Loader() {
+            @Override
+            public SXRMesh load(String path) throws IOException {
+                mLoaded.add(path);
+                return mReturnNull ? null : mock(SXRMesh.class);
+            }
+        });
+    }
+
+    @Test
+    public void firstGetLoadsAndLaterGetsHit() throws IOException {
+        SXRMesh first = mCache.get("bunny.obj");
+        SXRMesh second = mCache.get("bunny.obj");
+        SXRMesh third = mCache.get("bunny.obj");
+
+        assertSame(first, second);
+        assertSame(first, third);
+        assertEquals(1, mCache.getLoadCount());
+        assertEquals(1, mLoaded.size());
+    }
+
+    @Test
+    public void eachPathIsLoadedOnce() throws IOException {
+        SXRMesh bunny = mCache.get("bunny.obj");
+        SXRMesh cube = mCache.get("cube.obj");
+        mCache.get("bunny.obj");
+        mCache.get("cube.obj");
+
+        assertNotSame(bunny, cube);
+        assertEquals(2, mCache.getLoadCount());
+    }
+
+    @Test
+    public void failedLoadIsNotCached() throws IOException {
+        mReturnNull = true;
+        assertNull(mCache.get("missing.obj"));
+        assertNull(mCache.get("missing.obj"));
+
+        assertEquals(2, mCache.getLoadCount());
+    }
+
+    @Test
+    public void clearForcesReload() throws IOException {
+        SXRMesh before = mCache.get("bunny.obj");
+        mCache.clear();
+        SXRMesh after = mCache.get("bunny.obj");
+
+        assertNotSame(before, after);
+        assertEquals(2, mCache.getLoadCount());
+    }
+}
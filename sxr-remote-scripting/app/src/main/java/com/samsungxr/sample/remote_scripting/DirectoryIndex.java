@@ -0,0 +1,134 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.sample.remote_scripting;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Lists directories for the file browser on a background thread. Only sub
+ * directories and files with a model extension the asset loader can read
+ * are kept. Listings are cached per directory and reused for as long as the
+ * directory's modification time does not change.
+ */
+class DirectoryIndex {
+    // only allow model extensions we can read
+    private static final Set<String> MODEL_EXTENSIONS = new HashSet<String>(Arrays.asList(
+            "fbx", "dae", "gltf", "glb", "blend", "3ds", "ase", "obj", "xgl", "dxf", "lwo",
+            "lws", "lxo", "stl", "ac", "ms3d", "cob", "mdl", "md2", "md3", "3d", "ogex"));
+
+    interface Callback {
+        /**
+         * Called on the main thread with the listing of the requested directory.
+         */
+        void onListing(Listing listing);
+    }
+
+    static class Listing {
+        final String path;
+        final long lastModified;
+        final boolean readable;
+        /** Sorted names, starting with ".." unless the parent path would be empty */
+        final List<String> names;
+        final Set<String> directories;
+
+        Listing(String path, long lastModified, boolean readable, List<String> names, Set<String> directories) {
+            this.path = path;
+            this.lastModified = lastModified;
+            this.readable = readable;
+            this.names = names;
+            this.directories = directories;
+        }
+
+        boolean isDirectory(String name) {
+            return directories.contains(name);
+        }
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Map<String, Listing> listings = new HashMap<String, Listing>();
+
+    void list(final String path, final Callback callback) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                final Listing listing = index(path);
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        callback.onListing(listing);
+                    }
+                });
+            }
+        });
+    }
+
+    // Runs on the executor thread only
+    private Listing index(String path) {
+        File dir = new File(path);
+        long lastModified = dir.lastModified();
+        Listing cached = listings.get(path);
+        if (cached != null && cached.lastModified == lastModified) {
+            return cached;
+        }
+
+        List<String> names = new ArrayList<String>();
+        Set<String> directories = new HashSet<String>();
+        // add .. so the user can go up a level, even out of an unreadable
+        // directory, but never to the empty path above a top level one
+        if (path.lastIndexOf(File.separator) > 0) {
+            names.add("..");
+            directories.add("..");
+        }
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                if (file.isDirectory()) {
+                    names.add(name);
+                    directories.add(name);
+                } else if (isModel(name)) {
+                    names.add(name);
+                }
+            }
+        }
+        // sort alphabetically
+        Collections.sort(names);
+
+        Listing listing = new Listing(path, lastModified, dir.canRead(), names, directories);
+        listings.put(path, listing);
+        return listing;
+    }
+
+    static boolean isModel(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot >= 0 && MODEL_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.US));
+    }
+}
@@ -42,11 +42,7 @@ import android.widget.TextView;
 
 import java.io.IOException;
 import java.io.File;
-import java.io.FilenameFilter;
 import java.lang.Runnable;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 
 public class FileBrowserUtils {
     private SXRContext sxrContext;
@@ -60,6 +56,8 @@ public class FileBrowserUtils {
     private ListView listView;
     private TextView dirView;
     private ProgressBar spinner;
+    private final DirectoryIndex directoryIndex = new DirectoryIndex();
+    private DirectoryIndex.Listing listing;
 
 
 
@@ -98,74 +96,41 @@ public class FileBrowserUtils {
     private void chdir(String filepath) {
         path = filepath;
         dirView.setText(path);
-        spinner.setVisibility(View.GONE);
-
-        List values = new ArrayList();
-        File dir = new File(path);
-        if(!dir.canRead()) {
-            dirView.setText(dirView.getText() + " (inaccessible)");
-        }
-
-        // only allow model extensions we can read
-        File[] list = dir.listFiles(new FilenameFilter() {
-                public boolean accept(File dir, String name) {
-                    String filename = dir.getName() + File.separator + name;
-                    if(new File(filename).isDirectory()) {
-                        return true;
-                    }
-                    
-                    if(
-                        (name.toLowerCase().endsWith(".fbx")) ||
-                        (name.toLowerCase().endsWith(".dae")) ||
-                        (name.toLowerCase().endsWith(".gltf")) ||
-                        (name.toLowerCase().endsWith(".glb")) ||
-                        (name.toLowerCase().endsWith(".blend")) ||
-                        (name.toLowerCase().endsWith(".3ds")) ||
-                        (name.toLowerCase().endsWith(".ase")) ||
-                        (name.toLowerCase().endsWith(".obj")) ||
-                        (name.toLowerCase().endsWith(".xgl")) ||
-                        (name.toLowerCase().endsWith(".dxf")) ||
-                        (name.toLowerCase().endsWith(".lwo")) ||
-                        (name.toLowerCase().endsWith(".lws")) ||
-                        (name.toLowerCase().endsWith(".lxo")) ||
-                        (name.toLowerCase().endsWith(".stl")) ||
-                        (name.toLowerCase().endsWith(".ac")) ||
-                        (name.toLowerCase().endsWith(".ms3d")) ||
-                        (name.toLowerCase().endsWith(".cob")) ||
-                        (name.toLowerCase().endsWith(".mdl")) ||
-                        (name.toLowerCase().endsWith(".md2")) ||
-                        (name.toLowerCase().endsWith(".md3")) ||
-                        (name.toLowerCase().endsWith(".3d")) ||
-                        (name.toLowerCase().endsWith(".ogex"))
-                        ) {
-                        return true;
-                    }
-
-                    return false;
+        spinner.setVisibility(View.VISIBLE);
+
+        directoryIndex.list(path, new DirectoryIndex.Callback() {
+            @Override
+            public void onListing(DirectoryIndex.Listing result) {
+                // ignore listings of directories the user already left
+                if (result.path.equals(path)) {
+                    showListing(result);
                 }
+            }
         });
+    }
 
-        // add .. so the user can go up a level
-        if(list != null) {
-            values.add("..");
-            for(File file : list) {
-                values.add(file.getName());
-            }
+    private void showListing(DirectoryIndex.Listing result) {
+        listing = result;
+        spinner.setVisibility(View.GONE);
+        if(!listing.readable) {
+            dirView.setText(dirView.getText() + " (inaccessible)");
         }
 
-        // sort alphabetically
-        Collections.sort(values);
-
-        ArrayAdapter adapter = new ArrayAdapter(activity, android.R.layout.simple_list_item_2, android.R.id.text1, values);
+        ArrayAdapter adapter = new ArrayAdapter(activity, android.R.layout.simple_list_item_2, android.R.id.text1, listing.names);
         listView.setAdapter(adapter);
 
         listView.setOnItemClickListener(new OnItemClickListener() {
                 @Override
                 public void onItemClick(AdapterView<?> parent, View view, int position, long id) {
                     String filename = (String) listView.getItemAtPosition(position);
+                    boolean isDirectory = listing.isDirectory(filename);
                     if(filename.endsWith("..")) {
                         // strip out the /..
                         int index = path.lastIndexOf(File.separator);
+                        if(index <= 0) {
+                            // already at the top, there is nowhere to go
+                            return;
+                        }
                         filename = path.substring(0, index);
                     } else if(path.endsWith(File.separator)) {
                         filename = path + filename;
@@ -173,7 +138,7 @@ public class FileBrowserUtils {
                         filename = path + File.separator + filename;
                     }
 
-                    if(new File(filename).isDirectory()) {
+                    if(isDirectory) {
                         chdir(filename);
                     } else if(!filename.isEmpty()) {
                         // strip out /sdcard
@@ -0,0 +1,122 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.sample.remote_scripting;
+
+import android.os.Environment;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import com.samsungxr.SXRResourceVolume;
+import com.samsungxr.script.SXRScriptException;
+import com.samsungxr.script.SXRScriptFile;
+
+/**
+ * Keeps loaded script files so that running the same script again does not
+ * open, read and load its source again. Entries are keyed by volume type and
+ * path and carry a version: assets never change while the app runs, and sd
+ * card files are versioned by modification time and length. Network scripts
+ * have no cheap version and are always loaded again.
+ * <p>
+ * Only opening the volume and loading the script file are saved: a cached
+ * {@link SXRScriptFile} still evaluates its source on every invoke().
+ */
+class ScriptCache {
+    /**
+     * Loads a script when it is not cached or its version changed.
+     */
+    interface Loader {
+        SXRScriptFile load(SXRResourceVolume.VolumeType volType, String path, String language)
+                throws IOException, SXRScriptException;
+    }
+
+    private static class Entry {
+        final String version;
+        final SXRScriptFile script;
+
+        Entry(String version, SXRScriptFile script) {
+            this.version = version;
+            this.script = script;
+        }
+    }
+
+    private final Map<String, Entry> scripts = new HashMap<String, Entry>();
+    private final Loader loader;
+    private final File sdcard;
+    private int loadCount = 0;
+
+    ScriptCache(Loader loader) {
+        this(loader, Environment.getExternalStorageDirectory());
+    }
+
+    /**
+     * @param sdcard directory that sd card paths are relative to
+     */
+    ScriptCache(Loader loader, File sdcard) {
+        this.loader = loader;
+        this.sdcard = sdcard;
+    }
+
+    synchronized SXRScriptFile get(SXRResourceVolume.VolumeType volType, String path, String language)
+            throws IOException, SXRScriptException {
+        String version = versionOf(volType, path);
+        String key = volType + ":" + path;
+        Entry entry = scripts.get(key);
+
+        if (entry != null && version != null && version.equals(entry.version)) {
+            return entry.script;
+        }
+        SXRScriptFile script = loader.load(volType, path, language);
+        ++loadCount;
+        if (version != null) {
+            scripts.put(key, new Entry(version, script));
+        } else {
+            scripts.remove(key);
+        }
+        return script;
+    }
+
+    /**
+     * Returns the version of a script source, or null if it cannot be
+     * determined without reading the source.
+     */
+    private String versionOf(SXRResourceVolume.VolumeType volType, String path) {
+        switch (volType) {
+            case ANDROID_ASSETS:
+                return "asset";
+            case ANDROID_SDCARD:
+                File file = new File(sdcard, path);
+                if (!file.exists()) {
+                    return null;
+                }
+                return file.lastModified() + ":" + file.length();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Number of times a script had to be loaded.
+     */
+    synchronized int getLoadCount() {
+        return loadCount;
+    }
+
+    synchronized void clear() {
+        scripts.clear();
+    }
+}
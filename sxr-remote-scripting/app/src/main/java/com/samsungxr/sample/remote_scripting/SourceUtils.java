@@ -34,10 +34,20 @@ import com.samsungxr.SXRResourceVolume;
 public class SourceUtils {
     private SXRContext sxrContext;
     private SXRScriptManager mScriptManager;
+    private ScriptCache mScriptCache;
 
     public SourceUtils(SXRContext context) {
         sxrContext = context;
         mScriptManager = (SXRScriptManager)sxrContext.getScriptManager();
+        mScriptCache = new ScriptCache(new ScriptCache.Loader() {
+            @Override
+            public SXRScriptFile load(SXRResourceVolume.VolumeType volType, String path, String language)
+                    throws IOException, SXRScriptException {
+                SXRResourceVolume volume = new SXRResourceVolume(sxrContext, volType);
+                SXRAndroidResource resource = volume.openResource(path);
+                return (SXRScriptFile)mScriptManager.loadScript(resource, language);
+            }
+        });
     }
 
     private void logError(String message)
@@ -61,9 +71,7 @@ public class SourceUtils {
             {
                 volType = SXRResourceVolume.VolumeType.NETWORK;
             }
-            SXRResourceVolume volume = new SXRResourceVolume(sxrContext, volType);
-            SXRAndroidResource resource = volume.openResource(filename);
-            SXRScriptFile script = (SXRScriptFile)mScriptManager.loadScript(resource, language);
+            SXRScriptFile script = mScriptCache.get(volType, filename, language);
             script.invoke();
             String err = script.getLastError();
             if (err != null) {
@@ -0,0 +1,142 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.sample.remote_scripting;
+
+import com.samsungxr.SXRResourceVolume.VolumeType;
+import com.samsungxr.script.SXRScriptException;
+import com.samsungxr.script.SXRScriptFile;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class ScriptCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<String> loaded = new ArrayList<String>();
+    private File sdcard;
+    private ScriptCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        sdcard = folder.newFolder("sdcard");
+        cache = new ScriptCache(new ScriptCache.Loader() {
+            @Override
+            public SXRScriptFile load(VolumeType volType, String path, String language) {
+                loaded.add(volType + ":" + path);
+                return mock(SXRScriptFile.class);
+            }
+        }, sdcard);
+    }
+
+    private File write(String path, String source) throws IOException {
+        File file = new File(sdcard, path);
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(source.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    @Test
+    public void unchangedSdcardScriptIsLoadedOnce() throws IOException, SXRScriptException {
+        write("hello.js", "print('hello')");
+
+        SXRScriptFile first = cache.get(VolumeType.ANDROID_SDCARD, "hello.js", "js");
+        SXRScriptFile second = cache.get(VolumeType.ANDROID_SDCARD, "hello.js", "js");
+
+        assertSame(first, second);
+        assertEquals(1, cache.getLoadCount());
+    }
+
+    @Test
+    public void modifiedSdcardScriptIsLoadedAgain() throws IOException, SXRScriptException {
+        File file = write("hello.js", "print('hello')");
+        file.setLastModified(1000000000L);
+        SXRScriptFile first = cache.get(VolumeType.ANDROID_SDCARD, "hello.js", "js");
+
+        // same length, newer modification time
+        write("hello.js", "print('HELLO')");
+        file.setLastModified(2000000000L);
+        SXRScriptFile second = cache.get(VolumeType.ANDROID_SDCARD, "hello.js", "js");
+
+        // same modification time, other length
+        write("hello.js", "print('hello, world')");
+        file.setLastModified(2000000000L);
+        SXRScriptFile third = cache.get(VolumeType.ANDROID_SDCARD, "hello.js", "js");
+
+        assertNotSame(first, second);
+        assertNotSame(second, third);
+        assertEquals(3, cache.getLoadCount());
+        assertSame(third, cache.get(VolumeType.ANDROID_SDCARD, "hello.js", "js"));
+        assertEquals(3, cache.getLoadCount());
+    }
+
+    @Test
+    public void missingSdcardScriptIsNotCached() throws IOException, SXRScriptException {
+        cache.get(VolumeType.ANDROID_SDCARD, "missing.js", "js");
+        cache.get(VolumeType.ANDROID_SDCARD, "missing.js", "js");
+
+        assertEquals(2, cache.getLoadCount());
+    }
+
+    @Test
+    public void networkScriptIsAlwaysLoaded() throws IOException, SXRScriptException {
+        String url = "http://localhost/hello.js";
+        SXRScriptFile first = cache.get(VolumeType.NETWORK, url, "js");
+        SXRScriptFile second = cache.get(VolumeType.NETWORK, url, "js");
+
+        assertNotSame(first, second);
+        assertEquals(2, cache.getLoadCount());
+        assertEquals(2, loaded.size());
+    }
+
+    @Test
+    public void assetScriptIsLoadedOnce() throws IOException, SXRScriptException {
+        SXRScriptFile first = cache.get(VolumeType.ANDROID_ASSETS, "hello.js", "js");
+        SXRScriptFile second = cache.get(VolumeType.ANDROID_ASSETS, "hello.js", "js");
+
+        assertSame(first, second);
+        assertEquals(1, cache.getLoadCount());
+    }
+
+    @Test
+    public void clearForgetsScripts() throws IOException, SXRScriptException {
+        write("hello.js", "print('hello')");
+        cache.get(VolumeType.ANDROID_SDCARD, "hello.js", "js");
+
+        cache.clear();
+        cache.get(VolumeType.ANDROID_SDCARD, "hello.js", "js");
+
+        assertEquals(2, cache.getLoadCount());
+    }
+}
@@ -0,0 +1,222 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.samsungxr.balloons;
+
+import java.util.Random;
+import com.samsungxr.SXRBehavior;
+import com.samsungxr.SXRContext;
+import com.samsungxr.SXRNode;
+import org.joml.Vector2f;
+import org.joml.Vector3f;
+
+/**
+ * Alternative to {@link ParticleEmitter} which keeps particle
+ * state in a {@link ParticleStore} instead of per-particle
+ * {@link Particle} components.
+ * <p>
+ * It is configured with the same public fields as ParticleEmitter.
+ * Scene nodes are created on demand, one per store slot, and
+ * reused afterwards, so nothing is allocated at steady state.
+ * Positions are only ever written to the node transforms,
+ * never read back.
+ */
+public class ArrayParticleEmitter extends SXRBehavior
+{
+    /**
+     * Total number of particles
+     */
+    public int TotalParticles = 50;
+
+    /**
+     * Maximum number of particles active
+     */
+    public int  MaxActiveParticles = 20;
+
+    /**
+     * Particles emitted per second
+     */
+    public float  EmissionRate = 2;
+
+    /**
+     * Velocity range of particle emitted in units per second
+     */
+    public  ParticleEmitter.Range<Float>   Velocity = new ParticleEmitter.Range<Float>(1.0f);
+
+    /**
+     * Direction vector for particles
+     */
+    public  ParticleEmitter.Range<Vector3f>  Direction = new ParticleEmitter.Range<Vector3f>(new Vector3f(0, 0, 1));
+
+    public  ParticleEmitter.Range<Vector2f> EmitterArea = new ParticleEmitter.Range<Vector2f>(new Vector2f(-5.0f, -5.0f), new Vector2f(5.0f, 5.0f));
+
+    /**
+     * Maximum distance of particle from starting point
+     * before it disappears
+     */
+    public  float     MaxDistance = 10.0f;
+
+    private ParticleStore   mStore;
+    private SXRNode[]       mNodes;
+    private Random          mRandom = new Random();
+    private float           mLastEmitTime;
+    private ParticleEmitter.MakeParticle mMakeParticle;
+    static private long TYPE_ARRAY_PARTICLE_EMITTER = newComponentType(ArrayParticleEmitter.class);
+
+    public ArrayParticleEmitter(SXRContext ctx, ParticleEmitter.MakeParticle newParticle)
+    {
+        super(ctx);
+        mMakeParticle = newParticle;
+        mType = TYPE_ARRAY_PARTICLE_EMITTER;
+    }
+
+    static public long getComponentType() { return TYPE_ARRAY_PARTICLE_EMITTER; }
+
+    public void onEnable()
+    {
+        super.onEnable();
+        mLastEmitTime = 0;
+    }
+
+    /**
+     * Returns the store slot of the particle owned by the given node,
+     * or -1 if the node is not an active particle of this emitter.
+     */
+    public int findParticle(SXRNode node)
+    {
+        if (mNodes == null)
+        {
+            return -1;
+        }
+        synchronized (mStore)
+        {
+            for (int slot = 0; slot < mNodes.length; ++slot)
+            {
+                if ((mNodes[slot] == node) && mStore.isActive(slot))
+                {
+                    return slot;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Speed in units per second of the particle in the given slot.
+     */
+    public float getSpeed(int slot)
+    {
+        return mStore.getSpeed(slot);
+    }
+
+    public void stop(int slot)
+    {
+        synchronized (mStore)
+        {
+            if (mStore.isActive(slot))
+            {
+                mStore.kill(slot);
+                mNodes[slot].setEnable(false);
+            }
+        }
+    }
+
+    public void onDrawFrame(float elapsed)
+    {
+        if (isEnabled())
+        {
+            step(elapsed);
+        }
+    }
+
+    protected void step(float elapsed)
+    {
+        float emitTime = 1 / EmissionRate;
+        mLastEmitTime += elapsed;
+        if (mStore == null)
+        {
+            mStore = new ParticleStore(TotalParticles);
+            mNodes = new SXRNode[TotalParticles];
+        }
+        synchronized (mStore)
+        {
+            int numExpired = mStore.step(elapsed, MaxDistance);
+            for (int i = 0; i < numExpired; ++i)
+            {
+                mNodes[mStore.getExpired(i)].setEnable(false);
+            }
+            for (int i = 0; i < mStore.getActiveCount(); ++i)
+            {
+                int slot = mStore.getActive(i);
+                mNodes[slot].getTransform().setPosition(mStore.getX(slot), mStore.getY(slot), mStore.getZ(slot));
+            }
+            if (mLastEmitTime >= emitTime)
+            {
+                emit();
+                mLastEmitTime = 0;
+            }
+        }
+    }
+
+    protected void emit()
+    {
+        if (mStore.getActiveCount() >= MaxActiveParticles)
+        {
+            return; // cannot emit any more
+        }
+        /*
+         * Pick direction, speed and position from the configured
+         * ranges using scalars only.
+         */
+        Vector3f dmin = Direction.MinVal;
+        Vector3f dmax = Direction.MaxVal;
+        float dx = dmax.x, dy = dmax.y, dz = dmax.z;
+        if (Direction.isRange())
+        {
+            float r = mRandom.nextFloat();
+            dx = dmin.x + r * (dmax.x - dmin.x);
+            dy = dmin.y + r * (dmax.y - dmin.y);
+            dz = dmin.z + r * (dmax.z - dmin.z);
+        }
+        float velocity = Velocity.MinVal;
+        if (Velocity.isRange())
+        {
+            velocity += mRandom.nextFloat() * (Velocity.MaxVal - Velocity.MinVal);
+        }
+        Vector2f amin = EmitterArea.MinVal;
+        Vector2f amax = EmitterArea.MaxVal;
+        float px = amax.x, py = amax.y;
+        if (EmitterArea.isRange())
+        {
+            px = amin.x + mRandom.nextFloat() * (amax.x - amin.x);
+            py = amin.y + mRandom.nextFloat() * (amax.y - amin.y);
+        }
+
+        int slot = mStore.emit(px, py, 0, dx * velocity, dy * velocity, dz * velocity);
+        if (slot < 0)
+        {
+            return; // cannot create any more
+        }
+        SXRNode sceneObj = mNodes[slot];
+        if (sceneObj == null)
+        {
+            sceneObj = mMakeParticle.create(getSXRContext());
+            sceneObj.setName(sceneObj.getName() + Integer.valueOf(slot).toString());
+            mNodes[slot] = sceneObj;
+            getOwnerObject().addChildObject(sceneObj);
+        }
+        sceneObj.getTransform().setPosition(px, py, 0);
+        sceneObj.setEnable(true);
+    }
+}
@@ -74,7 +74,7 @@ public class BalloonMain extends SXRMain {
 
     private SXRScene mScene = null;
     private PickHandler mPickHandler;
-    private ParticleEmitter mParticleSystem;
+    private ArrayParticleEmitter mParticleSystem;
     private ArrayList<SXRMaterial> mMaterials;
     private SXRMesh     mSphereMesh;
     private Random      mRandom = new Random();
@@ -140,7 +140,7 @@ public class BalloonMain extends SXRMain {
         {
             public SXRNode create(SXRContext context) { return makeBalloon(context); }
         };
-        mParticleSystem = new ParticleEmitter(context, mScene, particleCreator);
+        mParticleSystem = new ArrayParticleEmitter(context, particleCreator);
         mParticleSystem.MaxDistance = 10.0f;
         mParticleSystem.TotalParticles = 10;
         mParticleSystem.EmissionRate = 3;
@@ -312,12 +312,12 @@ public class BalloonMain extends SXRMain {
 
     private void onHit(SXRNode sceneObj)
     {
-        Particle particle = (Particle) sceneObj.getComponent(Particle.getComponentType());
-        if (particle != null)
+        int particle = mParticleSystem.findParticle(sceneObj);
+        if (particle >= 0)
         {
             mPopSound.play();
+            mScore += Math.round(mParticleSystem.getSpeed(particle));
             mParticleSystem.stop(particle);
-            mScore += Math.round(particle.Velocity);
             mScoreBoard.setText(mScore.toString());
         }
         else if (sceneObj == mScoreBoard)
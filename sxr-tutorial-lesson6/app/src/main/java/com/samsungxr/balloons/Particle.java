@@ -15,6 +15,12 @@ class Particle extends SXRBehavior
     public float            Distance;
     private Vector3f        mStartPos = new Vector3f(0, 0, 0);
     private Vector3f        mCurPos = new Vector3f(0, 0, 0);
+
+    /**
+     * If true the position kept in Java is authoritative and
+     * is only written to the transform, never read back.
+     */
+    public boolean          WriteOnly = false;
     
     Particle(SXRContext ctx, float velocity, Vector3f direction)
     {
@@ -41,6 +47,10 @@ class Particle extends SXRBehavior
 
     public Vector3f getPosition()
     {
+        if (WriteOnly)
+        {
+            return mCurPos;
+        }
         Matrix4f localmtx = getOwnerObject().getTransform().getLocalModelMatrix4f();
         localmtx.getTranslation(mCurPos);
         return mCurPos;
@@ -67,7 +77,25 @@ class Particle extends SXRBehavior
         mCurPos.x += Direction.x * Velocity * time;
         mCurPos.y += Direction.y * Velocity * time;
         mCurPos.z += Direction.z * Velocity * time;
-        owner.getTransform().setPosition(mCurPos.x, mCurPos.y, mCurPos.z);;
-        Distance = mCurPos.sub(mStartPos, mCurPos).length();
+        if (!WriteOnly)
+        {
+            owner.getTransform().setPosition(mCurPos.x, mCurPos.y, mCurPos.z);
+        }
+        Distance = mCurPos.distance(mStartPos);
+    }
+
+    /**
+     * Writes the current position to the transform.
+     * In WriteOnly mode the emitter calls this once per frame
+     * for each active particle after they have all been moved.
+     */
+    public void updateTransform()
+    {
+        SXRNode owner = getOwnerObject();
+
+        if (owner != null)
+        {
+            owner.getTransform().setPosition(mCurPos.x, mCurPos.y, mCurPos.z);
+        }
     }
 }
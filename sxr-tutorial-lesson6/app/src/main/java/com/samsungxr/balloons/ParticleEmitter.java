@@ -86,6 +86,13 @@ public class ParticleEmitter extends SXRBehavior
      * before it disappears
      */
     public  float     MaxDistance = 10.0f;
+
+    /**
+     * If true particles keep their position in Java and
+     * the transforms are written in one pass per frame
+     * without reading them back.
+     */
+    public  boolean   WriteOnlyTransforms = true;
     
     private ArrayList<Particle> mFreeParticles;
     private ArrayList<Particle> mActiveParticles;
@@ -142,6 +149,7 @@ public class ParticleEmitter extends SXRBehavior
             for (Iterator<Particle> iter = mActiveParticles.iterator(); iter.hasNext(); )
             {
                 Particle particle = iter.next();
+                particle.WriteOnly = WriteOnlyTransforms;
                 particle.move(elapsed);
                 if (particle.Distance > MaxDistance)
                 {
@@ -150,6 +158,13 @@ public class ParticleEmitter extends SXRBehavior
                     particle.getOwnerObject().setEnable(false);
                 }
             }
+            if (WriteOnlyTransforms)
+            {
+                for (int i = 0; i < mActiveParticles.size(); ++i)
+                {
+                    mActiveParticles.get(i).updateTransform();
+                }
+            }
         }
         if (mLastEmitTime >= emitTime)
         {
@@ -0,0 +1,182 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.samsungxr.balloons;
+
+/**
+ * Fixed capacity particle storage kept as parallel primitive arrays.
+ * <p>
+ * Each particle is identified by a slot index in [0, capacity).
+ * Free slots are kept on an index stack and active slots in a
+ * dense array, so emitting, killing and stepping particles
+ * never allocates once the store has been constructed.
+ * This class has no SXR dependencies and can be run on a plain JVM.
+ */
+class ParticleStore
+{
+    private final int       mCapacity;
+    private final float[]   mPositions;     // x, y, z per slot
+    private final float[]   mVelocities;    // x, y, z per slot in units per second
+    private final float[]   mSpeeds;        // length of velocity per slot
+    private final float[]   mAges;          // seconds since emitted
+    private final int[]     mFree;          // stack of free slots
+    private final int[]     mActive;        // dense list of active slots
+    private final int[]     mActivePos;     // slot -> position in mActive, -1 if free
+    private final int[]     mExpired;       // slots expired by the last step
+    private int             mNumFree;
+    private int             mNumActive;
+    private int             mNumExpired;
+
+    ParticleStore(int capacity)
+    {
+        mCapacity = capacity;
+        mPositions = new float[capacity * 3];
+        mVelocities = new float[capacity * 3];
+        mSpeeds = new float[capacity];
+        mAges = new float[capacity];
+        mFree = new int[capacity];
+        mActive = new int[capacity];
+        mActivePos = new int[capacity];
+        mExpired = new int[capacity];
+        clear();
+    }
+
+    /**
+     * Returns every slot to the free list.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < mCapacity; ++i)
+        {
+            // pop from the end so slot 0 is handed out first
+            mFree[i] = mCapacity - 1 - i;
+            mActivePos[i] = -1;
+        }
+        mNumFree = mCapacity;
+        mNumActive = 0;
+        mNumExpired = 0;
+    }
+
+    public int getCapacity() { return mCapacity; }
+
+    public int getActiveCount() { return mNumActive; }
+
+    /**
+     * Returns the slot of the i'th active particle.
+     */
+    public int getActive(int i) { return mActive[i]; }
+
+    public boolean isActive(int slot) { return mActivePos[slot] >= 0; }
+
+    /**
+     * Activates a free slot with the given start position and velocity.
+     * @return slot index or -1 if the store is full
+     */
+    public int emit(float px, float py, float pz, float vx, float vy, float vz)
+    {
+        if (mNumFree == 0)
+        {
+            return -1;
+        }
+        int slot = mFree[--mNumFree];
+        int i = slot * 3;
+
+        mPositions[i] = px;
+        mPositions[i + 1] = py;
+        mPositions[i + 2] = pz;
+        mVelocities[i] = vx;
+        mVelocities[i + 1] = vy;
+        mVelocities[i + 2] = vz;
+        mSpeeds[slot] = (float) Math.sqrt(vx * vx + vy * vy + vz * vz);
+        mAges[slot] = 0;
+        mActivePos[slot] = mNumActive;
+        mActive[mNumActive++] = slot;
+        return slot;
+    }
+
+    /**
+     * Returns an active slot to the free list.
+     * Does nothing if the slot is not active.
+     */
+    public void kill(int slot)
+    {
+        int pos = mActivePos[slot];
+        if (pos < 0)
+        {
+            return;
+        }
+        int last = mActive[--mNumActive];
+        mActive[pos] = last;
+        mActivePos[last] = pos;
+        mActivePos[slot] = -1;
+        mFree[mNumFree++] = slot;
+    }
+
+    /**
+     * Moves and ages all active particles. Particles which have
+     * travelled further than maxDistance are killed and their
+     * slots recorded so the caller can retrieve them with
+     * {@link #getExpired(int)}.
+     * @return number of particles which expired in this step
+     */
+    public int step(float elapsed, float maxDistance)
+    {
+        mNumExpired = 0;
+        int a = 0;
+        while (a < mNumActive)
+        {
+            int slot = mActive[a];
+            int i = slot * 3;
+            float age = mAges[slot] + elapsed;
+
+            mAges[slot] = age;
+            mPositions[i] += mVelocities[i] * elapsed;
+            mPositions[i + 1] += mVelocities[i + 1] * elapsed;
+            mPositions[i + 2] += mVelocities[i + 2] * elapsed;
+            if (mSpeeds[slot] * age > maxDistance)
+            {
+                mExpired[mNumExpired++] = slot;
+                kill(slot);     // swaps another active slot into position a
+            }
+            else
+            {
+                ++a;
+            }
+        }
+        return mNumExpired;
+    }
+
+    /**
+     * Returns the i'th slot expired by the last call to {@link #step(float, float)}.
+     */
+    public int getExpired(int i) { return mExpired[i]; }
+
+    public float getX(int slot) { return mPositions[slot * 3]; }
+    public float getY(int slot) { return mPositions[slot * 3 + 1]; }
+    public float getZ(int slot) { return mPositions[slot * 3 + 2]; }
+    public float getAge(int slot) { return mAges[slot]; }
+    public float getSpeed(int slot) { return mSpeeds[slot]; }
+
+    /**
+     * Distance travelled from the emission point.
+     * Particles move in a straight line at constant speed.
+     */
+    public float getDistance(int slot) { return mSpeeds[slot] * mAges[slot]; }
+
+    /**
+     * Direct access to the packed x, y, z positions indexed by slot * 3.
+     * Intended for bulk uploads; callers must not modify it.
+     */
+    float[] getPositions() { return mPositions; }
+}
@@ -0,0 +1,133 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.samsungxr.balloons;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParticleStoreTest
+{
+    private static final int BENCH_PARTICLES = 10000;
+    private static final int BENCH_FRAMES = 600;
+    private static final float FRAME_TIME = 1.0f / 60.0f;
+
+    @Test
+    public void emitHandsOutSlotsUntilFull()
+    {
+        ParticleStore store = new ParticleStore(3);
+
+        assertEquals(0, store.emit(0, 0, 0, 1, 0, 0));
+        assertEquals(1, store.emit(0, 0, 0, 1, 0, 0));
+        assertEquals(2, store.emit(0, 0, 0, 1, 0, 0));
+        assertEquals(-1, store.emit(0, 0, 0, 1, 0, 0));
+        assertEquals(3, store.getActiveCount());
+    }
+
+    @Test
+    public void killReturnsSlotToFreeList()
+    {
+        ParticleStore store = new ParticleStore(2);
+        int a = store.emit(0, 0, 0, 1, 0, 0);
+        int b = store.emit(0, 0, 0, 1, 0, 0);
+
+        store.kill(a);
+        store.kill(a);      // killing twice is a no-op
+        assertFalse(store.isActive(a));
+        assertTrue(store.isActive(b));
+        assertEquals(1, store.getActiveCount());
+        assertEquals(b, store.getActive(0));
+        assertEquals(a, store.emit(0, 0, 0, 1, 0, 0));
+    }
+
+    @Test
+    public void stepMovesAndExpiresParticles()
+    {
+        ParticleStore store = new ParticleStore(4);
+        int slow = store.emit(1, 2, 3, 0, 0, 1);
+        int fast = store.emit(0, 0, 0, 3, 4, 0);
+
+        assertEquals(0, store.step(0.5f, 3.0f));
+        assertEquals(1, store.getX(slow), 1e-6f);
+        assertEquals(2, store.getY(slow), 1e-6f);
+        assertEquals(3.5f, store.getZ(slow), 1e-6f);
+        assertEquals(5, store.getSpeed(fast), 1e-6f);
+        assertEquals(2.5f, store.getDistance(fast), 1e-6f);
+
+        // fast goes 3.0 units, further than the limit, slow only 0.6
+        assertEquals(1, store.step(0.1f, 2.0f));
+        assertEquals(fast, store.getExpired(0));
+        assertFalse(store.isActive(fast));
+        assertTrue(store.isActive(slow));
+        assertEquals(0.6f, store.getAge(slow), 1e-6f);
+    }
+
+    /**
+     * Emits and ages 10k particles for ten simulated seconds at 60 fps,
+     * refilling expired slots every frame, and reports the cost per frame.
+     * On JVMs that can measure it, also checks that the steady state loop
+     * does not allocate.
+     */
+    @Test
+    public void benchmarkTenThousandParticles()
+    {
+        ParticleStore store = new ParticleStore(BENCH_PARTICLES);
+        Random random = new Random(42);
+
+        runFrames(store, random, BENCH_FRAMES);     // warm up
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocations = null;
+        if (threads instanceof com.sun.management.ThreadMXBean)
+        {
+            allocations = (com.sun.management.ThreadMXBean) threads;
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = (allocations != null) ? allocations.getThreadAllocatedBytes(threadId) : 0;
+        long start = System.nanoTime();
+        int expired = runFrames(store, random, BENCH_FRAMES);
+        long elapsed = System.nanoTime() - start;
+        long bytesAfter = (allocations != null) ? allocations.getThreadAllocatedBytes(threadId) : 0;
+
+        System.out.println(String.format("ParticleStore: %d particles, %d frames, %.1f us/frame, %d expired, %d bytes allocated",
+                BENCH_PARTICLES, BENCH_FRAMES, elapsed / 1000.0 / BENCH_FRAMES, expired, bytesAfter - bytesBefore));
+        assertTrue(expired > 0);
+        assertEquals(BENCH_PARTICLES, store.getActiveCount());
+        if (allocations != null && allocations.isThreadAllocatedMemoryEnabled())
+        {
+            assertEquals(0, bytesAfter - bytesBefore);
+        }
+    }
+
+    private static int runFrames(ParticleStore store, Random random, int frames)
+    {
+        int expired = 0;
+        for (int f = 0; f < frames; ++f)
+        {
+            expired += store.step(FRAME_TIME, 10.0f);
+            while (store.emit(random.nextFloat() * 10 - 5, random.nextFloat() * 4 - 2, 0,
+                              0, 0, 2 + random.nextFloat() * 4) >= 0)
+            {
+            }
+        }
+        return expired;
+    }
+}
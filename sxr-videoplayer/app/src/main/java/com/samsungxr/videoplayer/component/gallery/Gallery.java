@@ -18,6 +18,7 @@
 package com.samsungxr.videoplayer.component.gallery;
 
 import android.annotation.SuppressLint;
+import android.os.AsyncTask;
 import android.os.Handler;
 import android.os.Message;
 import android.support.annotation.NonNull;
@@ -44,7 +45,10 @@ import com.samsungxr.videoplayer.provider.asyntask.AlbumAsyncTask;
 import com.samsungxr.videoplayer.provider.asyntask.ExternalVideoAsyncTask;
 import com.samsungxr.videoplayer.provider.asyntask.GetDataCallback;
 import com.samsungxr.videoplayer.provider.asyntask.LocalVideoAsyncTask;
+import com.samsungxr.videoplayer.provider.asyntask.PagedDataCallback;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -52,13 +56,16 @@ public class Gallery extends FadeableObject implements OnItemsSelectionListener
 
     private static final String TAG = Gallery.class.getSimpleName();
     private RecyclerView mRecyclerView;
+    private GalleryItemAdapter<GalleryItem> mAdapter;
     private SXRViewNode mObjectViewGallery;
-    private List<GalleryItem> mItemList = new LinkedList<>();
+    private List<GalleryItem> mItemList = new ArrayList<>();
     private Breadcrumb mBreadcrumb;
     private OnGalleryEventListener mOnGalleryEventListener;
     private boolean mIsConnected = false;
     private CountdownTimer mCountdownTimer;
     private MessageText mMessageText;
+    private AsyncTask<Void, ?, ?> mLoadTask;
+    private PageAppender<?> mPageAppender;
 
     @SuppressLint("InflateParams")
     public Gallery(SXRContext sxrContext) {
@@ -108,9 +115,9 @@ public class Gallery extends FadeableObject implements OnItemsSelectionListener
     // UI Thread
     private void onInitRecyclerView(View galleryLayout) {
         mRecyclerView = galleryLayout.findViewById(R.id.recycler_view);
-        GalleryItemAdapter adapterGallery = new GalleryItemAdapter<>(mItemList);
-        adapterGallery.setOnItemSelectionListener(this);
-        mRecyclerView.setAdapter(adapterGallery);
+        mAdapter = new GalleryItemAdapter<>(mItemList);
+        mAdapter.setOnItemSelectionListener(this);
+        mRecyclerView.setAdapter(mAdapter);
         mRecyclerView.setLayoutManager(new GridLayoutManager(getSXRContext().getContext(), 2));
         loadHome();
     }
@@ -139,46 +146,30 @@ public class Gallery extends FadeableObject implements OnItemsSelectionListener
     // UI Thread
     private void loadHome() {
         setGridNumColumns(2);
-        mItemList.clear();
-        mItemList.addAll(createHomeItems());
-        mRecyclerView.getAdapter().notifyDataSetChanged();
+        mAdapter.setItems(createHomeItems());
     }
 
     private void loadLocalAlbums() {
         setGridNumColumns(3);
-        new AlbumAsyncTask(new GetDataCallback<List<Album>>() {
-            @Override
-            public void onResult(List<Album> data) {
-                mItemList.clear();
-                mItemList.addAll(data);
-                mRecyclerView.getAdapter().notifyDataSetChanged();
-            }
-        }).execute();
+        PageAppender<Album> appender = new PageAppender<>();
+        startLoad(new AlbumAsyncTask(appender), appender);
     }
 
     private void loadLocalVideos(String albumTitle) {
         setGridNumColumns(3);
-        new LocalVideoAsyncTask(albumTitle, new GetDataCallback<List<Video>>() {
-            @Override
-            public void onResult(List<Video> data) {
-                mItemList.clear();
-                mItemList.addAll(data);
-                mRecyclerView.getAdapter().notifyDataSetChanged();
-            }
-        }).execute();
+        PageAppender<Video> appender = new PageAppender<>();
+        startLoad(new LocalVideoAsyncTask(albumTitle, appender), appender);
     }
 
     private void loadExternalVideos() {
         setGridNumColumns(3);
-        new ExternalVideoAsyncTask(new GetDataCallback<List<Video>>() {
+        startLoad(new ExternalVideoAsyncTask(new GetDataCallback<List<Video>>() {
             @Override
             public void onResult(List<Video> data) {
-                mItemList.clear();
-                mItemList.addAll(data);
-                mRecyclerView.getAdapter().notifyDataSetChanged();
+                mLoadTask = null;
+                mAdapter.setItems(data);
             }
-        }).execute();
-
+        }), null);
     }
 
     @Override
@@ -248,10 +239,30 @@ public class Gallery extends FadeableObject implements OnItemsSelectionListener
         ownerTrans.setPosition(newModelMatrix[8] * -8, newModelMatrix[9] * -8, newModelMatrix[10] * -8);
     }
 
+    private void startLoad(AsyncTask<Void, ?, ?> task, PageAppender<?> appender) {
+        mLoadTask = task;
+        mPageAppender = appender;
+        task.execute();
+    }
+
+    private void cancelLoad() {
+        if (mLoadTask != null) {
+            mLoadTask.cancel(false);
+            mLoadTask = null;
+        }
+        mPageAppender = null;
+    }
+
     private void setGridNumColumns(int numColumns) {
-        mItemList.clear();
-        mRecyclerView.getAdapter().notifyDataSetChanged();
-        ((GridLayoutManager) mRecyclerView.getLayoutManager()).setSpanCount(numColumns);
+        cancelLoad();
+        GridLayoutManager layoutManager = (GridLayoutManager) mRecyclerView.getLayoutManager();
+        if (layoutManager.getSpanCount() != numColumns) {
+            // The whole grid is laid out again anyway
+            mItemList.clear();
+            mAdapter.notifyDataSetChanged();
+            layoutManager.setSpanCount(numColumns);
+        }
+        // Otherwise the current items stay until the new ones are diffed against them
     }
 
     public boolean onBackPressed() {
@@ -275,6 +286,42 @@ public class Gallery extends FadeableObject implements OnItemsSelectionListener
         return true;
     }
 
+    /**
+     * Shows each page of a local query as it arrives. The first page is
+     * diffed against the items currently shown, later pages are appended.
+     * Pages of a load that has since been replaced by another one are dropped.
+     */
+    private class PageAppender<T extends GalleryItem> implements PagedDataCallback<T> {
+
+        private boolean mFirstPage = true;
+
+        @Override
+        public void onPage(List<T> page) {
+            if (mPageAppender != this) {
+                return;
+            }
+            if (mFirstPage) {
+                mFirstPage = false;
+                mAdapter.setItems(page);
+            } else {
+                int start = mItemList.size();
+                mItemList.addAll(page);
+                mAdapter.notifyItemRangeInserted(start, page.size());
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (mPageAppender == this) {
+                if (mFirstPage) {
+                    mAdapter.setItems(Collections.<T>emptyList());
+                }
+                mLoadTask = null;
+                mPageAppender = null;
+            }
+        }
+    }
+
     private static class CountdownTimer extends Handler {
         static final int MAX_COUNT = 1;
         int count = MAX_COUNT;
@@ -18,6 +18,7 @@
 package com.samsungxr.videoplayer.component.gallery;
 
 import android.support.annotation.NonNull;
+import android.support.v7.util.DiffUtil;
 import android.support.v7.widget.RecyclerView;
 import android.support.v7.widget.RecyclerView.ViewHolder;
 import android.util.Log;
@@ -36,6 +37,7 @@ import com.samsungxr.videoplayer.model.Video;
 import com.samsungxr.videoplayer.provider.asyntask.ThumbnailLoader;
 import com.samsungxr.videoplayer.util.TimeUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class GalleryItemAdapter<T extends GalleryItem> extends RecyclerView.Adapter<ViewHolder> {
@@ -47,6 +49,17 @@ public class GalleryItemAdapter<T extends GalleryItem> extends RecyclerView.Adap
         this.mItemList = mItemList;
     }
 
+    /**
+     * Replaces the items and notifies only the positions that differ
+     * from the current ones instead of invalidating the whole grid.
+     */
+    void setItems(@NonNull List<? extends T> items) {
+        DiffUtil.DiffResult diff = DiffUtil.calculateDiff(new GalleryItemDiffCallback(mItemList, items));
+        mItemList.clear();
+        mItemList.addAll(items);
+        diff.dispatchUpdatesTo(this);
+    }
+
     @NonNull
     @Override
     public ViewHolder onCreateViewHolder(@NonNull ViewGroup viewGroup, @GalleryItem.Type int viewType) {
@@ -79,7 +92,7 @@ public class GalleryItemAdapter<T extends GalleryItem> extends RecyclerView.Adap
             Album album = (Album) item;
             AlbumViewHolder viewHolder = (AlbumViewHolder) holder;
             viewHolder.mTextView.setText(album.getTitle());
-            new ThumbnailLoader(viewHolder.mThumbnail).execute(album.getVideoForThumbnail().getId());
+            ThumbnailLoader.load(viewHolder.mThumbnail, album.getVideoForThumbnail());
 
         } else if (item.getType() == GalleryItem.Type.TYPE_VIDEO) {
 
@@ -93,24 +106,35 @@ public class GalleryItemAdapter<T extends GalleryItem> extends RecyclerView.Adap
                 } else {
                     viewHolder.is360 = false;
                 }
-                new ThumbnailLoader(viewHolder.thumbnail).execute(video.getId());
             } else {
                 viewHolder.is360 = false;
-                viewHolder.thumbnail.setImageBitmap(video.getThumbnail());
             }
+            ThumbnailLoader.load(viewHolder.thumbnail, video);
         } else {
             Log.d(getClass().getSimpleName(), "Unknown type:" + item.getType());
         }
     }
 
+    @Override
+    public void onViewRecycled(@NonNull ViewHolder holder) {
+        super.onViewRecycled(holder);
+        if (holder instanceof VideoViewHolder) {
+            ThumbnailLoader.cancel(((VideoViewHolder) holder).thumbnail);
+        } else if (holder instanceof AlbumViewHolder) {
+            ThumbnailLoader.cancel(((AlbumViewHolder) holder).mThumbnail);
+        }
+    }
+
     @Override
     public int getItemCount() {
         return mItemList.size();
     }
 
-    private void notifyItemSelected(List<? extends GalleryItem> items) {
+    private void notifyItemSelected(int position) {
         if (mOnItemsSelectionListener != null) {
-            mOnItemsSelectionListener.onItemSelected(items);
+            // Copy, the list keeps growing while a paged query is still loading
+            mOnItemsSelectionListener.onItemSelected(
+                    new ArrayList<>(mItemList.subList(position, mItemList.size())));
         }
     }
 
@@ -164,7 +188,7 @@ public class GalleryItemAdapter<T extends GalleryItem> extends RecyclerView.Adap
 
         @Override
         public void onClick(View v) {
-            notifyItemSelected(mItemList.subList(getAdapterPosition(), mItemList.size()));
+            notifyItemSelected(getAdapterPosition());
         }
     }
 
@@ -182,7 +206,7 @@ public class GalleryItemAdapter<T extends GalleryItem> extends RecyclerView.Adap
 
         @Override
         public void onClick(View v) {
-            notifyItemSelected(mItemList.subList(getAdapterPosition(), mItemList.size()));
+            notifyItemSelected(getAdapterPosition());
         }
     }
 
@@ -200,7 +224,7 @@ public class GalleryItemAdapter<T extends GalleryItem> extends RecyclerView.Adap
 
         @Override
         public void onClick(View v) {
-            notifyItemSelected(mItemList.subList(getAdapterPosition(), mItemList.size()));
+            notifyItemSelected(getAdapterPosition());
         }
     }
 }
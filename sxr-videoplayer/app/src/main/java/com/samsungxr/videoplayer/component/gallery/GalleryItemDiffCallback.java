@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.samsungxr.videoplayer.component.gallery;
+
+import android.support.v7.util.DiffUtil;
+
+import com.samsungxr.videoplayer.model.Album;
+import com.samsungxr.videoplayer.model.GalleryItem;
+import com.samsungxr.videoplayer.model.HomeItem;
+import com.samsungxr.videoplayer.model.Video;
+
+import java.util.List;
+
+/**
+ * Compares two gallery listings so that only the items which were added,
+ * removed, moved or changed get rebound. Every rebind invalidates the
+ * view node texture the gallery is rendered into.
+ */
+class GalleryItemDiffCallback extends DiffUtil.Callback {
+
+    private final List<? extends GalleryItem> mOldItems;
+    private final List<? extends GalleryItem> mNewItems;
+
+    GalleryItemDiffCallback(List<? extends GalleryItem> oldItems, List<? extends GalleryItem> newItems) {
+        this.mOldItems = oldItems;
+        this.mNewItems = newItems;
+    }
+
+    @Override
+    public int getOldListSize() {
+        return mOldItems.size();
+    }
+
+    @Override
+    public int getNewListSize() {
+        return mNewItems.size();
+    }
+
+    @Override
+    public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+        GalleryItem oldItem = mOldItems.get(oldItemPosition);
+        GalleryItem newItem = mNewItems.get(newItemPosition);
+
+        if (oldItem.getClass() != newItem.getClass()) {
+            return false;
+        }
+        if (oldItem instanceof Video) {
+            return equals(((Video) oldItem).getPath(), ((Video) newItem).getPath());
+        }
+        if (oldItem instanceof Album) {
+            return oldItem.equals(newItem);
+        }
+        // One home item per class
+        return true;
+    }
+
+    @Override
+    public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+        GalleryItem oldItem = mOldItems.get(oldItemPosition);
+        GalleryItem newItem = mNewItems.get(newItemPosition);
+
+        if (oldItem instanceof Video) {
+            return isSameVideo((Video) oldItem, (Video) newItem);
+        }
+        if (oldItem instanceof Album) {
+            return isSameVideo(((Album) oldItem).getVideoForThumbnail(),
+                    ((Album) newItem).getVideoForThumbnail());
+        }
+        HomeItem oldHome = (HomeItem) oldItem;
+        HomeItem newHome = (HomeItem) newItem;
+        return oldHome.getImageResourceId() == newHome.getImageResourceId()
+                && equals(oldHome.getLabel(), newHome.getLabel());
+    }
+
+    private static boolean isSameVideo(Video oldVideo, Video newVideo) {
+        if (oldVideo == null || newVideo == null) {
+            return oldVideo == newVideo;
+        }
+        return equals(oldVideo.getPath(), newVideo.getPath())
+                && equals(oldVideo.getTitle(), newVideo.getTitle())
+                && oldVideo.getDuration() == newVideo.getDuration()
+                && oldVideo.getDateModified() == newVideo.getDateModified()
+                && equals(oldVideo.getThumbnailPath(), newVideo.getThumbnailPath())
+                && oldVideo.getIs360tag() == newVideo.getIs360tag()
+                && oldVideo.getHas360onTitle() == newVideo.getHas360onTitle()
+                && oldVideo.getIsRatio21() == newVideo.getIsRatio21();
+    }
+
+    private static boolean equals(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+}
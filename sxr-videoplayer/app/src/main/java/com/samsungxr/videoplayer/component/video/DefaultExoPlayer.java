@@ -27,9 +27,15 @@ import com.google.android.exoplayer2.source.MediaSource;
 
 import com.samsungxr.nodes.SXRVideoNodePlayer;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 public class DefaultExoPlayer implements SXRVideoNodePlayer<ExoPlayer> {
 
+    private static final String TAG = DefaultExoPlayer.class.getSimpleName();
+
     private SimpleExoPlayer mSimpleExoPlayer;
+    private final Set<Player.EventListener> mListeners = new LinkedHashSet<>();
 
     public DefaultExoPlayer(SimpleExoPlayer mSimpleExoPlayer) {
         this.mSimpleExoPlayer = mSimpleExoPlayer;
@@ -40,35 +46,42 @@ public class DefaultExoPlayer implements SXRVideoNodePlayer<ExoPlayer> {
         return mSimpleExoPlayer;
     }
 
+    /**
+     * Registers a listener with the underlying player. Adding the same
+     * listener again has no effect, so callers may do it on every surface
+     * or video node switch.
+     */
+    public void addListener(Player.EventListener listener) {
+        if (mListeners.add(listener)) {
+            mSimpleExoPlayer.addListener(listener);
+        }
+    }
+
+    public void removeListener(Player.EventListener listener) {
+        if (mListeners.remove(listener)) {
+            mSimpleExoPlayer.removeListener(listener);
+        }
+    }
+
+    /**
+     * Number of listeners currently registered through {@link #addListener}.
+     */
+    public int getListenerCount() {
+        return mListeners.size();
+    }
+
     @Override
     public void setSurface(final Surface surface) {
-        mSimpleExoPlayer.addListener(new Player.DefaultEventListener() {
-            @Override
-            public void onPlayerStateChanged(boolean playWhenReady, int playbackState) {
-                switch (playbackState) {
-                    case Player.STATE_BUFFERING:
-                        Log.d("DefaultExoPlayer", "onPlayerStateChanged: STATE_BUFFERING");
-                        break;
-                    case Player.STATE_ENDED:
-                        Log.d("DefaultExoPlayer", "onPlayerStateChanged: STATE_ENDED");
-                        break;
-                    case Player.STATE_IDLE:
-                        Log.d("DefaultExoPlayer", "onPlayerStateChanged: STATE_IDLE");
-                        break;
-                    case Player.STATE_READY:
-                        Log.d("DefaultExoPlayer", "onPlayerStateChanged: STATE_READY");
-                        break;
-                    default:
-                        break;
-                }
-            }
-        });
-
+        addListener(mStateLogger);
         mSimpleExoPlayer.setVideoSurface(surface);
     }
 
     @Override
     public void release() {
+        for (Player.EventListener listener : mListeners) {
+            mSimpleExoPlayer.removeListener(listener);
+        }
+        mListeners.clear();
         mSimpleExoPlayer.release();
     }
 
@@ -109,7 +122,37 @@ public class DefaultExoPlayer implements SXRVideoNodePlayer<ExoPlayer> {
         mSimpleExoPlayer.seekTo(position);
     }
 
+    public void seekTo(int windowIndex, long position) {
+        mSimpleExoPlayer.seekTo(windowIndex, position);
+    }
+
+    public int getCurrentWindowIndex() {
+        return mSimpleExoPlayer.getCurrentWindowIndex();
+    }
+
     public void prepare(MediaSource mediaSource) {
         mSimpleExoPlayer.prepare(mediaSource);
     }
+
+    private final Player.EventListener mStateLogger = new Player.DefaultEventListener() {
+        @Override
+        public void onPlayerStateChanged(boolean playWhenReady, int playbackState) {
+            switch (playbackState) {
+                case Player.STATE_BUFFERING:
+                    Log.d(TAG, "onPlayerStateChanged: STATE_BUFFERING");
+                    break;
+                case Player.STATE_ENDED:
+                    Log.d(TAG, "onPlayerStateChanged: STATE_ENDED");
+                    break;
+                case Player.STATE_IDLE:
+                    Log.d(TAG, "onPlayerStateChanged: STATE_IDLE");
+                    break;
+                case Player.STATE_READY:
+                    Log.d(TAG, "onPlayerStateChanged: STATE_READY");
+                    break;
+                default:
+                    break;
+            }
+        }
+    };
 }
@@ -17,16 +17,16 @@ package com.samsungxr.videoplayer.component.video.player;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
-import android.graphics.SurfaceTexture;
 import android.net.Uri;
 import android.os.Handler;
 import android.os.Looper;
 import android.os.Message;
 import android.support.annotation.NonNull;
-import android.view.Surface;
+import android.util.DisplayMetrics;
 
 import com.google.android.exoplayer2.ExoPlayerFactory;
 import com.google.android.exoplayer2.extractor.DefaultExtractorsFactory;
+import com.google.android.exoplayer2.source.ConcatenatingMediaSource;
 import com.google.android.exoplayer2.source.ExtractorMediaSource;
 import com.google.android.exoplayer2.source.MediaSource;
 import com.google.android.exoplayer2.source.dash.DashChunkSource;
@@ -53,9 +53,9 @@ import com.samsungxr.videoplayer.component.video.DefaultExoPlayer;
 import com.samsungxr.videoplayer.model.Video;
 
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 
+import static com.google.android.exoplayer2.Player.DISCONTINUITY_REASON_PERIOD_TRANSITION;
 import static com.google.android.exoplayer2.Player.STATE_BUFFERING;
 import static com.google.android.exoplayer2.Player.STATE_READY;
 
@@ -63,11 +63,21 @@ public class Player extends FadeableObject {
 
     private static final String TAG = Player.class.getSimpleName();
     private static final DefaultBandwidthMeter BANDWIDTH_METER = new DefaultBandwidthMeter();
+    // Horizontal field of view of one eye, used to estimate the angular resolution
+    private static final float EYE_FOV_DEGREES = 90f;
+    // Largest on-screen length of one sphere segment before the facets become visible
+    private static final float MAX_SEGMENT_PIXELS = 40f;
+    private static final int MIN_SPHERE_SLICES = 48;
+    private static final int MAX_SPHERE_SLICES = 144;
 
     private SXRContext mGvrContext;
     private DefaultExoPlayer mMediaPlayer;
-    private Video[] mFiles;
-    private LinkedList<Video> mPlayingNowQueue;
+    private final PlayingQueue mQueue = new PlayingQueue(new PlayingQueue.SourceFactory() {
+        @Override
+        public MediaSource createMediaSource(Video video) {
+            return mediaSource(video);
+        }
+    });
     private DataSource.Factory mFileDataSourceFactory;
     private DataSource.Factory mManifestDataSourceFactory;
     private DashChunkSource.Factory mDashChunkSourceFactory;
@@ -78,6 +88,9 @@ public class Player extends FadeableObject {
     private SXRVideoNode mVideo;
     private SXRVideoNode mFlatVideo;
     private SXRVideoNode m360Video;
+    private SXRExternalTexture mTexture;
+    private int mSphereSlices;
+    private boolean mShadowed;
 
     public Player(final SXRContext sxrContext) {
         super(sxrContext);
@@ -96,43 +109,91 @@ public class Player extends FadeableObject {
     }
 
     private void createVideoNode() {
-        SXRExternalTexture texture = new SXRExternalTexture(mGvrContext);
-        SurfaceTexture surfaceTexture = new SurfaceTexture(texture.getId());
-        Surface surface = new Surface(surfaceTexture);
+        mTexture = new SXRExternalTexture(mGvrContext);
 
         mMediaPlayer = new DefaultExoPlayer(ExoPlayerFactory.newSimpleInstance(mGvrContext.getContext(), new DefaultTrackSelector()));
-        mMediaPlayer.getPlayer().addListener(mPlayerListener);
+        mMediaPlayer.addListener(mPlayerListener);
 
-        mFlatVideo = new SXRVideoNode(mGvrContext, mGvrContext.createQuad(1, .6f), mMediaPlayer, texture, SXRVideoType.MONO);
-        mFlatVideo.attachCollider(new SXRMeshCollider(getSXRContext(), true));
-        mFlatVideo.getTransform().setScale(10, 10, 1);
-        mFlatVideo.getTransform().setPositionZ(-8.1f);
-        addChildObject(mFlatVideo);
+        mSphereSlices = sphereSlicesFor(mGvrContext.getContext());
+        setFlatPlayer();
+    }
 
-        SXRSphereNode sphere = new SXRSphereNode(mGvrContext, 72, 144, false);
-        m360Video = new SXRVideoNode(mGvrContext, sphere.getRenderData().getMesh(), mMediaPlayer, texture, SXRVideoType.MONO);
-        m360Video.getTransform().setScale(100f, 100f, 100f);
-        addChildObject(m360Video);
+    /**
+     * Number of slices of the 360 sphere for the device's display. Each
+     * slice should cover at most {@link #MAX_SEGMENT_PIXELS} pixels, so the
+     * count grows with the angular resolution of the display.
+     */
+    static int sphereSlicesFor(Context context) {
+        DisplayMetrics metrics = context.getResources().getDisplayMetrics();
+        int eyeWidth = Math.max(metrics.widthPixels, metrics.heightPixels) / 2;
+        return sphereSlicesFor(eyeWidth / EYE_FOV_DEGREES);
+    }
 
-        setFlatPlayer();
+    static int sphereSlicesFor(float pixelsPerDegree) {
+        int slices = (int) Math.ceil(360f * pixelsPerDegree / MAX_SEGMENT_PIXELS);
+        slices = Math.max(MIN_SPHERE_SLICES, Math.min(MAX_SPHERE_SLICES, slices));
+        return slices + (slices & 1);
+    }
+
+    /**
+     * Overrides the number of slices of the 360 sphere, which has half as
+     * many stacks. Only has an effect before the first 360 video is played.
+     */
+    public void setSphereSlices(int slices) {
+        mSphereSlices = slices;
+    }
+
+    private SXRVideoNode getFlatVideo() {
+        if (mFlatVideo == null) {
+            mFlatVideo = new SXRVideoNode(mGvrContext, mGvrContext.createQuad(1, .6f), mMediaPlayer, mTexture, SXRVideoType.MONO);
+            mFlatVideo.attachCollider(new SXRMeshCollider(getSXRContext(), true));
+            mFlatVideo.getTransform().setScale(10, 10, 1);
+            mFlatVideo.getTransform().setPositionZ(-8.1f);
+            applyShadow(mFlatVideo);
+            addChildObject(mFlatVideo);
+        }
+        return mFlatVideo;
+    }
+
+    private SXRVideoNode get360Video() {
+        if (m360Video == null) {
+            logd("Creating 360 sphere with " + mSphereSlices + " slices");
+            SXRSphereNode sphere = new SXRSphereNode(mGvrContext, mSphereSlices / 2, mSphereSlices, false);
+            m360Video = new SXRVideoNode(mGvrContext, sphere.getRenderData().getMesh(), mMediaPlayer, mTexture, SXRVideoType.MONO);
+            m360Video.getTransform().setScale(100f, 100f, 100f);
+            applyShadow(m360Video);
+            addChildObject(m360Video);
+        }
+        return m360Video;
     }
 
     public void shadow() {
-        float[] color = {0.4f, 0.4f, 0.4f};
-        mFlatVideo.getRenderData().getMaterial().setColor(color[0], color[1], color[2]);
-        m360Video.getRenderData().getMaterial().setColor(color[0], color[1], color[2]);
+        mShadowed = true;
+        applyShadow(mFlatVideo);
+        applyShadow(m360Video);
+    }
+
+    private void applyShadow(SXRVideoNode video) {
+        if (mShadowed && video != null) {
+            float[] color = {0.4f, 0.4f, 0.4f};
+            video.getRenderData().getMaterial().setColor(color[0], color[1], color[2]);
+        }
     }
 
     private void set360Player() {
-        mFlatVideo.setEnable(false);
-        m360Video.setEnable(true);
-        mVideo = m360Video;
+        if (mFlatVideo != null) {
+            mFlatVideo.setEnable(false);
+        }
+        mVideo = get360Video();
+        mVideo.setEnable(true);
     }
 
     private void setFlatPlayer() {
-        m360Video.setEnable(false);
-        mFlatVideo.setEnable(true);
-        mVideo = mFlatVideo;
+        if (m360Video != null) {
+            m360Video.setEnable(false);
+        }
+        mVideo = getFlatVideo();
+        mVideo.setEnable(true);
     }
 
     public void playVideo() {
@@ -151,7 +212,7 @@ public class Player extends FadeableObject {
     }
 
     public boolean is360PlayerActive() {
-        return mVideo == m360Video;
+        return m360Video != null && mVideo == m360Video;
     }
 
     public boolean isPlaying() {
@@ -174,38 +235,45 @@ public class Player extends FadeableObject {
         mMediaPlayer.seekTo(progress);
     }
 
+    /**
+     * Prepares the first video of the list. The videos are played from one
+     * {@link PlayingQueue} which always holds the source after the one
+     * playing, so ExoPlayer buffers the next video while the current one
+     * plays and no new decoder has to be set up when moving on to it.
+     */
     public void prepare(@NonNull List<Video> videos) {
         mMediaPlayer.pause();
         if (videos.size() > 0) {
-            mFiles = videos.toArray(new Video[videos.size()]);
-            mPlayingNowQueue = new LinkedList<>(videos);
-            logd("preparedQueue: " + mPlayingNowQueue);
-            prepareNextFile();
+            ConcatenatingMediaSource source = mQueue.reset(videos);
+            mPlayingNow = mQueue.getCurrent();
+            logd("preparedQueue: " + Arrays.toString(mQueue.getFiles()));
+            mMediaPlayer.prepare(source);
+            logd("selectedFile: " + mPlayingNow);
         } else {
             logd("Files array is empty");
         }
     }
 
-    private void resetQueue() {
-        mPlayingNowQueue = new LinkedList<>(Arrays.asList(mFiles));
-    }
-
     public void prepareNextFile() {
-        if (mPlayingNowQueue != null && !mPlayingNowQueue.isEmpty()) {
+        if (hasNextToPlay()) {
             mMediaPlayer.pause();
-            mPlayingNow = mPlayingNowQueue.pop();
-            MediaSource mediaSource = null;
-            if (mPlayingNow.getVideoType() == Video.VideoType.LOCAL) {
-                mediaSource = fileMediaSource(mPlayingNow);
-            } else {
-                mediaSource = dashMediaSource(mPlayingNow);
-            }
-
-            mMediaPlayer.prepare(mediaSource);
+            int index = mQueue.moveToNext();
+            mPlayingNow = mQueue.getCurrent();
+            // Usually already there and buffered, rewind the few frames
+            // played before the transition was handled
+            mMediaPlayer.seekTo(index, 0);
             logd("selectedFile: " + mPlayingNow);
         }
     }
 
+    private MediaSource mediaSource(Video video) {
+        if (video.getVideoType() == Video.VideoType.LOCAL) {
+            return fileMediaSource(video);
+        } else {
+            return dashMediaSource(video);
+        }
+    }
+
     private void createDashFactories() {
         Context context = VideoPlayerApp.getInstance().getApplicationContext();
         String userAgent = Util.getUserAgent(context, "videoplayer");
@@ -236,13 +304,11 @@ public class Player extends FadeableObject {
     }
 
     public boolean hasNextToPlay() {
-        return mPlayingNowQueue != null && mPlayingNowQueue.size() > 0;
+        return mQueue.hasNext();
     }
 
     public int getNextIndexToPlay() {
-        return mPlayingNowQueue != null && mPlayingNowQueue.size() > 0
-                ? mFiles.length - mPlayingNowQueue.size()
-                : 0;
+        return hasNextToPlay() ? mQueue.getIndex() + 1 : 0;
     }
 
     public void setOnVideoPlayerListener(OnPlayerListener listener) {
@@ -357,7 +423,7 @@ public class Player extends FadeableObject {
                 logd("Video ended: " + getPlayingNowName());
                 notifyVideoEnded();
 
-                if (mPlayingNowQueue != null && mPlayingNowQueue.isEmpty()) {
+                if (!hasNextToPlay()) {
                     logd("All videos ended: " + getPlayingNowName());
                     // resetQueue();
                     notifyAllVideosEnded();
@@ -375,10 +441,24 @@ public class Player extends FadeableObject {
             mPreviousState = playbackState;
         }
 
+        @Override
+        public void onPositionDiscontinuity(int reason) {
+            // A single video can have several periods (multi-period DASH),
+            // only a transition into another window means the video ended
+            if (reason == DISCONTINUITY_REASON_PERIOD_TRANSITION
+                    && mMediaPlayer.getCurrentWindowIndex() != mQueue.getIndex()) {
+                // The queue moved on to the pre-buffered next video by itself.
+                // Hold it there so the next video is still offered the usual way.
+                mMediaPlayer.pause();
+                logd("Video ended: " + getPlayingNowName());
+                notifyVideoEnded();
+            }
+        }
+
     };
 
     public void reposition(float[] newModelMatrix) {
-        SXRTransform ownerTrans = mFlatVideo.getTransform();
+        SXRTransform ownerTrans = getFlatVideo().getTransform();
 
         float scaleX = ownerTrans.getScaleX();
         float scaleY = ownerTrans.getScaleY();
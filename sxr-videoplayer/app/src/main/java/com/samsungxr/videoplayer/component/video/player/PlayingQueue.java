@@ -0,0 +1,97 @@
+/* Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.samsungxr.videoplayer.component.video.player;
+
+import android.support.annotation.NonNull;
+
+import com.google.android.exoplayer2.source.ConcatenatingMediaSource;
+import com.google.android.exoplayer2.source.MediaSource;
+import com.samsungxr.videoplayer.model.Video;
+
+import java.util.List;
+
+/**
+ * The videos of a playlist and the {@link ConcatenatingMediaSource} they are
+ * played from. The source always holds the video after the one playing, so
+ * ExoPlayer buffers it while the current one plays. Sources are only ever
+ * appended, window indices of the source match the indices of the videos.
+ */
+class PlayingQueue {
+
+    interface SourceFactory {
+        MediaSource createMediaSource(Video video);
+    }
+
+    private final SourceFactory mSourceFactory;
+    private Video[] mFiles;
+    private ConcatenatingMediaSource mSource;
+    private int mIndex;
+
+    PlayingQueue(SourceFactory sourceFactory) {
+        mSourceFactory = sourceFactory;
+    }
+
+    /**
+     * Starts over with the given videos, positioned on the first one.
+     *
+     * @return the source to prepare the player with
+     */
+    ConcatenatingMediaSource reset(@NonNull List<Video> videos) {
+        mFiles = videos.toArray(new Video[videos.size()]);
+        mSource = new ConcatenatingMediaSource();
+        mIndex = 0;
+        enqueueUpTo(1);
+        return mSource;
+    }
+
+    /**
+     * Moves on to the next video and appends the one after it.
+     *
+     * @return the window index of the new current video
+     */
+    int moveToNext() {
+        mIndex++;
+        enqueueUpTo(mIndex + 1);
+        return mIndex;
+    }
+
+    private void enqueueUpTo(int index) {
+        int last = Math.min(index, mFiles.length - 1);
+        for (int i = mSource.getSize(); i <= last; i++) {
+            mSource.addMediaSource(mSourceFactory.createMediaSource(mFiles[i]));
+        }
+    }
+
+    boolean hasNext() {
+        return mFiles != null && mIndex + 1 < mFiles.length;
+    }
+
+    int getIndex() {
+        return mIndex;
+    }
+
+    Video getCurrent() {
+        return mFiles != null && mFiles.length > 0 ? mFiles[mIndex] : null;
+    }
+
+    Video[] getFiles() {
+        return mFiles;
+    }
+
+    ConcatenatingMediaSource getSource() {
+        return mSource;
+    }
+}
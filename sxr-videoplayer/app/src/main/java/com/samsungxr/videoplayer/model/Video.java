@@ -37,6 +37,8 @@ public final class Video extends GalleryItem {
     private boolean has360onTitle;
     private @VideoType int videoType;
     private Bitmap thumbnail;
+    private long dateModified;
+    private String thumbnailPath;
 
     public Video(long id, String title, String path, long duration, boolean isRatio21,
                  boolean is360tag, boolean has360onTitle, @VideoType int videoType) {
@@ -115,6 +117,29 @@ public final class Video extends GalleryItem {
         return thumbnail;
     }
 
+    /**
+     * Asset path of the thumbnail of an external video, decoded on demand.
+     */
+    public String getThumbnailPath() {
+        return thumbnailPath;
+    }
+
+    public void setThumbnailPath(String thumbnailPath) {
+        this.thumbnailPath = thumbnailPath;
+    }
+
+    /**
+     * Last modification time in seconds as reported by the media store,
+     * 0 if unknown.
+     */
+    public long getDateModified() {
+        return dateModified;
+    }
+
+    public void setDateModified(long dateModified) {
+        this.dateModified = dateModified;
+    }
+
     @VideoType
     public int getVideoType() {
         return videoType;
@@ -19,41 +19,36 @@ package com.samsungxr.videoplayer.provider.asyntask;
 
 import android.content.Context;
 import android.database.Cursor;
-import android.database.CursorWrapper;
-import android.os.AsyncTask;
 import android.provider.MediaStore.Video;
 import android.provider.MediaStore.Video.VideoColumns;
 import android.support.annotation.NonNull;
-import android.util.Log;
 
 import com.samsungxr.videoplayer.VideoPlayerApp;
 import com.samsungxr.videoplayer.model.Album;
 
-import java.util.LinkedList;
 import java.util.List;
-import java.util.regex.Pattern;
 
-public class AlbumAsyncTask extends AsyncTask<Void, Void, List<Album>> {
-
-    private static final String TAG = AlbumAsyncTask.class.getSimpleName();
-    private GetDataCallback<List<Album>> mGetDataCallback;
+public class AlbumAsyncTask extends PagedCursorAsyncTask<Album> {
 
     public AlbumAsyncTask() {
     }
 
     public AlbumAsyncTask(@NonNull GetDataCallback<List<Album>> mGetDataCallback) {
-        this.mGetDataCallback = mGetDataCallback;
+        super(mGetDataCallback);
     }
 
-    @Override
-    protected List<Album> doInBackground(Void... voids) {
-        return load();
+    public AlbumAsyncTask(@NonNull PagedDataCallback<Album> pagedDataCallback) {
+        super(pagedDataCallback);
     }
 
     public List<Album> load() {
+        return readAll();
+    }
+
+    @Override
+    protected Cursor query() {
 
         Context context = VideoPlayerApp.getInstance().getApplicationContext();
-        List<Album> albums = new LinkedList<>();
 
         String[] projection = new String[]{
                 VideoColumns._ID,
@@ -63,64 +58,19 @@ public class AlbumAsyncTask extends AsyncTask<Void, Void, List<Album>> {
                 VideoColumns.DURATION,
                 VideoColumns.WIDTH,
                 VideoColumns.HEIGHT,
-                "is_360_video"
+                VideoColumns.DATE_MODIFIED,
+                VideoCursorReader.IS_360_VIDEO
         };
 
         String sortOrder = VideoColumns.BUCKET_DISPLAY_NAME + " ASC, " + VideoColumns.TITLE + " ASC";
 
-        try (Cursor cursor = context.getContentResolver().query(
+        return context.getContentResolver().query(
                 Video.Media.EXTERNAL_CONTENT_URI,
-                projection, "0 == 0) GROUP BY (" + VideoColumns.BUCKET_DISPLAY_NAME, null, sortOrder)) {
-
-            if (cursor != null && cursor.moveToFirst()) {
-
-                Log.d(TAG, "Result count = " + cursor.getCount());
-
-                AlbumCursorWrapper cursorWrapper = new AlbumCursorWrapper(cursor);
-
-                do {
-
-                    String albumTitle = cursorWrapper.getTitle();
-                    albums.add(new Album(albumTitle, cursorWrapper.getVideo()));
-
-                } while (cursor.moveToNext());
-            }
-        }
-
-        return albums;
+                projection, "0 == 0) GROUP BY (" + VideoColumns.BUCKET_DISPLAY_NAME, null, sortOrder);
     }
 
     @Override
-    protected void onPostExecute(List<Album> albums) {
-        super.onPostExecute(albums);
-        mGetDataCallback.onResult(albums);
-    }
-
-    private static class AlbumCursorWrapper extends CursorWrapper {
-
-        AlbumCursorWrapper(Cursor cursor) {
-            super(cursor);
-        }
-
-        String getTitle() {
-            return getString(getColumnIndexOrThrow(VideoColumns.BUCKET_DISPLAY_NAME));
-        }
-
-        com.samsungxr.videoplayer.model.Video getVideo() {
-            float width = Float.parseFloat(getString(getColumnIndexOrThrow(VideoColumns.WIDTH)));
-            float height = Float.parseFloat(getString(getColumnIndexOrThrow(VideoColumns.HEIGHT)));
-            boolean isRatio21 =  width / height == 2;
-
-            return new com.samsungxr.videoplayer.model.Video(
-                    getLong(getColumnIndexOrThrow(VideoColumns._ID)),
-                    getString(getColumnIndexOrThrow(VideoColumns.TITLE)),
-                    getString(getColumnIndexOrThrow(VideoColumns.DATA)),
-                    getLong(getColumnIndexOrThrow(VideoColumns.DURATION)),
-                    isRatio21,
-                    getInt(getColumnIndexOrThrow("is_360_video")) == 1,
-                    Pattern.matches(".*360.*", getString(getColumnIndexOrThrow(VideoColumns.TITLE))),
-                    com.samsungxr.videoplayer.model.Video.VideoType.LOCAL
-            );
-        }
+    protected Album readRow(VideoCursorReader reader) {
+        return new Album(reader.readBucketName(), reader.readVideo());
     }
 }
@@ -17,21 +17,17 @@
 
 package com.samsungxr.videoplayer.provider.asyntask;
 
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.os.AsyncTask;
 import android.support.annotation.NonNull;
+import android.util.JsonReader;
 import android.util.Log;
 
 import com.samsungxr.videoplayer.VideoPlayerApp;
 import com.samsungxr.videoplayer.model.Video;
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.LinkedList;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.List;
 
 public class ExternalVideoAsyncTask extends AsyncTask<Void, Void, List<Video>> {
@@ -49,22 +45,29 @@ public class ExternalVideoAsyncTask extends AsyncTask<Void, Void, List<Video>> {
         return loadVideos();
     }
 
+    /**
+     * Streams the video list out of the JSON asset. Thumbnails are not
+     * decoded here; only their asset paths are kept and the gallery decodes
+     * them at cell size when they are shown.
+     */
     public List<Video> loadVideos() {
-        List<Video> videos = new LinkedList<>();
-        JSONObject videosJSON = loadJSONFromFile();
-        try {
-            JSONArray jsonArray = videosJSON.getJSONArray("videos");
-            int arrayLength = jsonArray.length();
-            for (int i = 0; i < arrayLength; i++) {
-                JSONObject jsonObject = jsonArray.getJSONObject(i);
-                Video video = new Video(jsonObject.getInt("id"), jsonObject.getString("name"),
-                                        jsonObject.getString("uri"), jsonObject.getInt("duration"),
-                                        false, false, false, Video.VideoType.EXTERNAL);
-
-                video.setThumbnail(loadBitmap(jsonObject.getString("thumbnail")));
-                videos.add(video);
+        List<Video> videos = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(new InputStreamReader(
+                VideoPlayerApp.getInstance().getAssets().open("external_videos.json"), "UTF-8"))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("videos")) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        videos.add(readVideo(reader));
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
             }
-        } catch (JSONException e) {
+            reader.endObject();
+        } catch (IOException | IllegalStateException e) {
             Log.e(TAG, "Could not load videos info from JSON file");
             e.printStackTrace();
         }
@@ -72,6 +75,44 @@ public class ExternalVideoAsyncTask extends AsyncTask<Void, Void, List<Video>> {
         return videos;
     }
 
+    private Video readVideo(JsonReader reader) throws IOException {
+        int id = 0;
+        String name = null;
+        String uri = null;
+        int duration = 0;
+        String thumbnail = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    id = reader.nextInt();
+                    break;
+                case "name":
+                    name = reader.nextString();
+                    break;
+                case "uri":
+                    uri = reader.nextString();
+                    break;
+                case "duration":
+                    duration = reader.nextInt();
+                    break;
+                case "thumbnail":
+                    thumbnail = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        Video video = new Video(id, name, uri, duration, false, false, false,
+                Video.VideoType.EXTERNAL);
+        video.setThumbnailPath(thumbnail);
+        return video;
+    }
+
     @Override
     protected void onPostExecute(List<Video> videos) {
         super.onPostExecute(videos);
@@ -79,37 +120,4 @@ public class ExternalVideoAsyncTask extends AsyncTask<Void, Void, List<Video>> {
             mGetDataCallback.onResult(videos);
         }
     }
-
-    private JSONObject loadJSONFromFile() {
-        String jsonFile;
-        JSONObject json = null;
-        try {
-            InputStream is = VideoPlayerApp.getInstance().getAssets().open("external_videos.json");
-            int size = is.available();
-            byte[] buffer = new byte[size];
-            is.read(buffer);
-            is.close();
-            jsonFile = new String(buffer, "UTF-8");
-            json = new JSONObject(jsonFile);
-        } catch (IOException e) {
-            Log.e(TAG, "Could not load JSON file");
-            e.printStackTrace();
-        } catch (JSONException e) {
-            Log.e(TAG, "Could not load JSON file");
-            e.printStackTrace();
-        }
-        return json;
-    }
-
-    private Bitmap loadBitmap(String thumbnailPath) {
-        Bitmap bitmap = null;
-        try {
-            InputStream is = VideoPlayerApp.getInstance().getAssets().open(thumbnailPath);
-            bitmap = BitmapFactory.decodeStream(is);
-        } catch (IOException e) {
-            Log.e(TAG, "Could not load thumbnail");
-            e.printStackTrace();
-        }
-        return bitmap;
-    }
 }
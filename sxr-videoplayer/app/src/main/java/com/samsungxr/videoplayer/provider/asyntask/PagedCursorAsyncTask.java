@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.samsungxr.videoplayer.provider.asyntask;
+
+import android.database.Cursor;
+import android.os.AsyncTask;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a MediaStore query either in one go, reporting the complete list
+ * to a {@link GetDataCallback}, or page by page to a {@link PagedDataCallback}.
+ * In paged mode only the current page is held in memory and reading stops
+ * as soon as the task is cancelled.
+ */
+abstract class PagedCursorAsyncTask<T> extends AsyncTask<Void, List<T>, List<T>> {
+
+    static final int PAGE_SIZE = 24;
+
+    private GetDataCallback<List<T>> mGetDataCallback;
+    private PagedDataCallback<T> mPagedDataCallback;
+
+    PagedCursorAsyncTask() {
+    }
+
+    PagedCursorAsyncTask(GetDataCallback<List<T>> getDataCallback) {
+        this.mGetDataCallback = getDataCallback;
+    }
+
+    PagedCursorAsyncTask(PagedDataCallback<T> pagedDataCallback) {
+        this.mPagedDataCallback = pagedDataCallback;
+    }
+
+    /**
+     * Runs the query. Called on the calling thread of {@link #readAll()}
+     * or on the background thread of the task.
+     */
+    protected abstract Cursor query();
+
+    /**
+     * Converts the current row of the cursor.
+     */
+    protected abstract T readRow(VideoCursorReader reader);
+
+    /**
+     * Reads every row of the query and returns them.
+     */
+    List<T> readAll() {
+        List<T> items = new ArrayList<>();
+        try (Cursor cursor = query()) {
+            if (cursor != null) {
+                Log.d(getClass().getSimpleName(), "Result count = " + cursor.getCount());
+                readPage(cursor, new VideoCursorReader(cursor), items, Integer.MAX_VALUE);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Appends up to {@code max} rows following the cursor's current position
+     * to {@code items}. Returns false once the cursor is exhausted.
+     */
+    boolean readPage(Cursor cursor, VideoCursorReader reader, List<T> items, int max) {
+        for (int i = 0; i < max; i++) {
+            if (!cursor.moveToNext()) {
+                return false;
+            }
+            items.add(readRow(reader));
+        }
+        return true;
+    }
+
+    @Override
+    protected List<T> doInBackground(Void... voids) {
+        if (mPagedDataCallback == null) {
+            return readAll();
+        }
+        try (Cursor cursor = query()) {
+            if (cursor == null) {
+                return null;
+            }
+            VideoCursorReader reader = new VideoCursorReader(cursor);
+            boolean hasMore = true;
+            while (hasMore && !isCancelled()) {
+                List<T> page = new ArrayList<>(PAGE_SIZE);
+                hasMore = readPage(cursor, reader, page, PAGE_SIZE);
+                if (!page.isEmpty()) {
+                    publishProgress(page);
+                }
+            }
+        }
+        return null;
+    }
+
+    @SafeVarargs
+    @Override
+    protected final void onProgressUpdate(List<T>... pages) {
+        for (List<T> page : pages) {
+            mPagedDataCallback.onPage(page);
+        }
+    }
+
+    @Override
+    protected void onPostExecute(List<T> items) {
+        super.onPostExecute(items);
+        if (mPagedDataCallback != null) {
+            mPagedDataCallback.onComplete();
+        } else if (mGetDataCallback != null) {
+            mGetDataCallback.onResult(items);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.samsungxr.videoplayer.provider.asyntask;
+
+import java.util.List;
+
+/**
+ * Receives the result of a query page by page, on the UI thread and in
+ * query order, so the first items can be shown before the whole result
+ * has been read.
+ */
+public interface PagedDataCallback<T> {
+
+    void onPage(List<T> page);
+
+    void onComplete();
+}
@@ -17,36 +17,98 @@
 
 package com.samsungxr.videoplayer.provider.asyntask;
 
+import android.content.res.Resources;
 import android.graphics.Bitmap;
 import android.os.AsyncTask;
-import android.provider.MediaStore;
 import android.widget.ImageView;
 
+import com.samsungxr.videoplayer.R;
+import com.samsungxr.videoplayer.model.Video;
+import com.samsungxr.videoplayer.provider.cache.ThumbnailCache;
+
 import java.lang.ref.WeakReference;
 
-public class ThumbnailLoader extends AsyncTask<Long, Void, Bitmap> {
+public class ThumbnailLoader extends AsyncTask<Void, Void, Bitmap> {
 
     private final WeakReference<ImageView> imageViewReference;
+    private final ThumbnailCache mCache;
+    private final Video mVideo;
+    private final int mWidth;
+    private final int mHeight;
 
-    public ThumbnailLoader(ImageView imageView) {
+    private ThumbnailLoader(ImageView imageView, ThumbnailCache cache, Video video,
+                            int width, int height) {
         this.imageViewReference = new WeakReference<>(imageView);
+        this.mCache = cache;
+        this.mVideo = video;
+        this.mWidth = width;
+        this.mHeight = height;
+    }
+
+    /**
+     * Shows the video's thumbnail in the view. A cached bitmap is set right
+     * away, otherwise it is loaded in background. Any load still pending for
+     * the view is cancelled first, so a recycled cell never shows the
+     * thumbnail of the item it was bound to before.
+     */
+    public static void load(ImageView imageView, Video video) {
+
+        cancel(imageView);
+
+        ThumbnailCache cache = ThumbnailCache.getInstance(imageView.getContext());
+        Resources resources = imageView.getResources();
+        int width = resources.getDimensionPixelSize(R.dimen.grid_item_width);
+        int height = resources.getDimensionPixelSize(R.dimen.grid_item_height);
+        Bitmap bitmap;
+
+        if (video.getVideoType() == Video.VideoType.LOCAL) {
+            bitmap = cache.getFromMemory(video.getId(), video.getDateModified());
+        } else if (video.getThumbnailPath() != null) {
+            bitmap = cache.getAssetFromMemory(video.getThumbnailPath(), width, height);
+        } else {
+            imageView.setImageBitmap(video.getThumbnail());
+            return;
+        }
+
+        if (bitmap != null) {
+            imageView.setImageBitmap(bitmap);
+            return;
+        }
+
+        imageView.setImageDrawable(null);
+        ThumbnailLoader loader = new ThumbnailLoader(imageView, cache, video, width, height);
+        imageView.setTag(loader);
+        loader.executeOnExecutor(THREAD_POOL_EXECUTOR);
+    }
+
+    /**
+     * Cancels the load pending for the view, if any.
+     */
+    public static void cancel(ImageView imageView) {
+        Object tag = imageView.getTag();
+        if (tag instanceof ThumbnailLoader) {
+            ((ThumbnailLoader) tag).cancel(false);
+            imageView.setTag(null);
+        }
     }
 
     @Override
-    protected Bitmap doInBackground(Long... params) {
-        return MediaStore.Video.Thumbnails.getThumbnail(
-                imageViewReference.get().getContext().getContentResolver(),
-                params[0],
-                MediaStore.Video.Thumbnails.MINI_KIND,
-                null
-        );
+    protected Bitmap doInBackground(Void... params) {
+        if (isCancelled()) {
+            return null;
+        }
+        if (mVideo.getVideoType() == Video.VideoType.LOCAL) {
+            return mCache.get(mVideo.getId(), mVideo.getDateModified());
+        }
+        return mCache.getAsset(mVideo.getThumbnailPath(), mWidth, mHeight);
     }
 
     @Override
     protected void onPostExecute(Bitmap bitmap) {
-        if (bitmap != null) {
-            final ImageView imageView = imageViewReference.get();
-            if (imageView != null) {
+        final ImageView imageView = imageViewReference.get();
+        if (imageView != null && imageView.getTag() == this) {
+            imageView.setTag(null);
+            if (bitmap != null) {
                 imageView.setImageBitmap(bitmap);
             }
         }
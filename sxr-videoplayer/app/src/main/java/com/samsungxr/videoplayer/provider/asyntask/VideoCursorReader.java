@@ -0,0 +1,90 @@
+/*
+ * Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.samsungxr.videoplayer.provider.asyntask;
+
+import android.database.Cursor;
+
+import com.samsungxr.videoplayer.model.Video;
+
+import static android.provider.MediaStore.Video.VideoColumns;
+
+/**
+ * Builds {@link Video}s from the rows of a MediaStore video cursor.
+ * Column indices are looked up once when the reader is created instead
+ * of for every row; the album name column is optional.
+ */
+class VideoCursorReader {
+
+    static final String IS_360_VIDEO = "is_360_video";
+
+    private final Cursor mCursor;
+    private final int mIdIndex;
+    private final int mTitleIndex;
+    private final int mDataIndex;
+    private final int mDurationIndex;
+    private final int mWidthIndex;
+    private final int mHeightIndex;
+    private final int mDateModifiedIndex;
+    private final int mIs360Index;
+    private final int mBucketIndex;
+
+    VideoCursorReader(Cursor cursor) {
+        mCursor = cursor;
+        mIdIndex = cursor.getColumnIndexOrThrow(VideoColumns._ID);
+        mTitleIndex = cursor.getColumnIndexOrThrow(VideoColumns.TITLE);
+        mDataIndex = cursor.getColumnIndexOrThrow(VideoColumns.DATA);
+        mDurationIndex = cursor.getColumnIndexOrThrow(VideoColumns.DURATION);
+        mWidthIndex = cursor.getColumnIndexOrThrow(VideoColumns.WIDTH);
+        mHeightIndex = cursor.getColumnIndexOrThrow(VideoColumns.HEIGHT);
+        mDateModifiedIndex = cursor.getColumnIndexOrThrow(VideoColumns.DATE_MODIFIED);
+        mIs360Index = cursor.getColumnIndexOrThrow(IS_360_VIDEO);
+        mBucketIndex = cursor.getColumnIndex(VideoColumns.BUCKET_DISPLAY_NAME);
+    }
+
+    /**
+     * Reads the video at the current cursor position.
+     */
+    Video readVideo() {
+        String title = mCursor.getString(mTitleIndex);
+        Video video = new Video(mCursor.getLong(mIdIndex), title, mCursor.getString(mDataIndex),
+                mCursor.getLong(mDurationIndex), isRatio21(),
+                mCursor.getInt(mIs360Index) == 1, has360onTitle(title),
+                Video.VideoType.LOCAL);
+        video.setDateModified(mCursor.getLong(mDateModifiedIndex));
+        return video;
+    }
+
+    /**
+     * Album name of the current row, or null if the query did not select it.
+     */
+    String readBucketName() {
+        return mBucketIndex >= 0 ? mCursor.getString(mBucketIndex) : null;
+    }
+
+    private boolean isRatio21() {
+        String width = mCursor.getString(mWidthIndex);
+        String height = mCursor.getString(mHeightIndex);
+        if (width == null || height == null)
+            return false;
+        return Float.parseFloat(width) / Float.parseFloat(height) == 2;
+    }
+
+    static boolean has360onTitle(String title) {
+        return title != null && title.contains("360");
+    }
+}
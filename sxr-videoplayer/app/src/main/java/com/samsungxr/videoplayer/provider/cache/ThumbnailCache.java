@@ -0,0 +1,312 @@
+/*
+ * Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.samsungxr.videoplayer.provider.cache;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.content.res.AssetManager;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.provider.MediaStore;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.util.LruCache;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Two level cache for video thumbnails: decoded bitmaps in memory, bounded by
+ * their byte count, backed by JPEG files on disk. Entries are keyed by video
+ * id and modification time so an edited video gets a fresh thumbnail.
+ */
+public class ThumbnailCache {
+
+    private static final String TAG = ThumbnailCache.class.getSimpleName();
+    private static final String DIRECTORY = "thumbnails";
+    private static final long MAX_DISK_BYTES = 32 * 1024 * 1024;
+    private static final int JPEG_QUALITY = 85;
+    private static final String EXTENSION = ".jpg";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private static ThumbnailCache sInstance;
+
+    /**
+     * Produces a thumbnail when neither cache level has it.
+     */
+    public interface Source {
+        @Nullable
+        Bitmap load(long videoId);
+    }
+
+    private final LruCache<String, Bitmap> mMemoryCache;
+    private final AssetManager mAssets;
+    private final File mDirectory;
+    private final Source mSource;
+    private final long mMaxDiskBytes;
+    private long mDiskBytes = -1;
+
+    public ThumbnailCache(@NonNull Source source, @NonNull AssetManager assets, int maxMemoryBytes,
+                          File directory, long maxDiskBytes) {
+        this.mSource = source;
+        this.mAssets = assets;
+        this.mDirectory = directory;
+        this.mMaxDiskBytes = maxDiskBytes;
+        this.mMemoryCache = new LruCache<String, Bitmap>(maxMemoryBytes) {
+            @Override
+            protected int sizeOf(String key, Bitmap value) {
+                return value.getByteCount();
+            }
+        };
+    }
+
+    public static synchronized ThumbnailCache getInstance(Context context) {
+        if (sInstance == null) {
+            final ContentResolver resolver = context.getApplicationContext().getContentResolver();
+            Source source = new Source() {
+                @Override
+                public Bitmap load(long videoId) {
+                    return MediaStore.Video.Thumbnails.getThumbnail(resolver, videoId,
+                            MediaStore.Video.Thumbnails.MINI_KIND, null);
+                }
+            };
+            int maxMemoryBytes = (int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 8);
+            File directory = new File(context.getApplicationContext().getCacheDir(), DIRECTORY);
+            sInstance = new ThumbnailCache(source, context.getApplicationContext().getAssets(),
+                    maxMemoryBytes, directory, MAX_DISK_BYTES);
+        }
+        return sInstance;
+    }
+
+    /**
+     * Returns the thumbnail only if it is already decoded in memory. Safe to
+     * call from the UI thread.
+     */
+    @Nullable
+    public Bitmap getFromMemory(long videoId, long dateModified) {
+        return mMemoryCache.get(key(videoId, dateModified));
+    }
+
+    /**
+     * Returns the thumbnail from memory, disk or the source, filling the
+     * faster levels on the way back. Must be called off the UI thread.
+     */
+    @Nullable
+    public Bitmap get(long videoId, long dateModified) {
+
+        String key = key(videoId, dateModified);
+        Bitmap bitmap = mMemoryCache.get(key);
+        if (bitmap != null) {
+            return bitmap;
+        }
+
+        File file = new File(mDirectory, key + EXTENSION);
+        if (file.exists()) {
+            bitmap = BitmapFactory.decodeFile(file.getPath());
+            if (bitmap == null) {
+                // unreadable file, drop it and ask the source again
+                deleteFromDisk(file);
+            }
+        }
+
+        if (bitmap == null) {
+            bitmap = mSource.load(videoId);
+            if (bitmap != null) {
+                writeToDisk(file, bitmap);
+            }
+        }
+
+        if (bitmap != null) {
+            mMemoryCache.put(key, bitmap);
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Returns an asset thumbnail only if it is already decoded in memory.
+     */
+    @Nullable
+    public Bitmap getAssetFromMemory(String path, int reqWidth, int reqHeight) {
+        return mMemoryCache.get(assetKey(path, reqWidth, reqHeight));
+    }
+
+    /**
+     * Decodes an image asset subsampled to the smallest power of two that
+     * still covers the requested size. Must be called off the UI thread.
+     */
+    @Nullable
+    public Bitmap getAsset(String path, int reqWidth, int reqHeight) {
+
+        String key = assetKey(path, reqWidth, reqHeight);
+        Bitmap bitmap = mMemoryCache.get(key);
+        if (bitmap != null) {
+            return bitmap;
+        }
+
+        try {
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            try (InputStream is = mAssets.open(path)) {
+                BitmapFactory.decodeStream(is, null, options);
+            }
+
+            options.inSampleSize = calculateInSampleSize(options.outWidth, options.outHeight,
+                    reqWidth, reqHeight);
+            options.inJustDecodeBounds = false;
+            try (InputStream is = mAssets.open(path)) {
+                bitmap = BitmapFactory.decodeStream(is, null, options);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Could not load thumbnail " + path, e);
+        }
+
+        if (bitmap != null) {
+            mMemoryCache.put(key, bitmap);
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Largest power of two subsampling that keeps both dimensions at or
+     * above the requested ones.
+     */
+    public static int calculateInSampleSize(int width, int height, int reqWidth, int reqHeight) {
+
+        int inSampleSize = 1;
+
+        if (reqWidth <= 0 || reqHeight <= 0) {
+            return inSampleSize;
+        }
+
+        while (width / (inSampleSize * 2) >= reqWidth
+                && height / (inSampleSize * 2) >= reqHeight) {
+            inSampleSize *= 2;
+        }
+
+        return inSampleSize;
+    }
+
+    public void clearMemory() {
+        mMemoryCache.evictAll();
+    }
+
+    private static String key(long videoId, long dateModified) {
+        return videoId + "_" + dateModified;
+    }
+
+    private static String assetKey(String path, int reqWidth, int reqHeight) {
+        return path + "@" + reqWidth + "x" + reqHeight;
+    }
+
+    private synchronized void writeToDisk(File file, Bitmap bitmap) {
+
+        if (!mDirectory.exists() && !mDirectory.mkdirs()) {
+            Log.w(TAG, "Cannot create " + mDirectory);
+            return;
+        }
+
+        if (mDiskBytes < 0) {
+            mDiskBytes = 0;
+            File[] files = mDirectory.listFiles();
+            if (files != null) {
+                for (File f : files) {
+                    if (f.getName().endsWith(TEMP_EXTENSION)) {
+                        // left over from an interrupted write
+                        f.delete();
+                    } else {
+                        mDiskBytes += f.length();
+                    }
+                }
+            }
+        }
+
+        // write under a temporary name and rename, so concurrent readers
+        // only ever see complete files under the final name
+        File temp = null;
+        try {
+            temp = File.createTempFile(file.getName(), TEMP_EXTENSION, mDirectory);
+            try (OutputStream out = new FileOutputStream(temp)) {
+                bitmap.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, out);
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Cannot write thumbnail " + file, e);
+            if (temp != null) {
+                temp.delete();
+            }
+            return;
+        }
+
+        long replaced = file.length();
+        if (!temp.renameTo(file)) {
+            Log.w(TAG, "Cannot rename thumbnail to " + file);
+            temp.delete();
+            return;
+        }
+
+        mDiskBytes += file.length() - replaced;
+        if (mDiskBytes > mMaxDiskBytes) {
+            trimDisk();
+        }
+    }
+
+    private synchronized void deleteFromDisk(File file) {
+
+        long length = file.length();
+        if (file.delete() && mDiskBytes >= 0) {
+            mDiskBytes -= length;
+        }
+    }
+
+    /**
+     * Deletes the least recently written files until the directory is back
+     * under three quarters of its limit.
+     */
+    private void trimDisk() {
+
+        File[] files = mDirectory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File a, File b) {
+                return Long.compare(a.lastModified(), b.lastModified());
+            }
+        });
+
+        long target = mMaxDiskBytes * 3 / 4;
+        for (File f : files) {
+            if (mDiskBytes <= target) {
+                break;
+            }
+            long length = f.length();
+            if (f.delete()) {
+                mDiskBytes -= length;
+            }
+        }
+    }
+}
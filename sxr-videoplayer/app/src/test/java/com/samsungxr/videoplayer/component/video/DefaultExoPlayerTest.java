@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.samsungxr.videoplayer.component.video;
+
+import android.view.Surface;
+
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.SimpleExoPlayer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class DefaultExoPlayerTest {
+
+    private SimpleExoPlayer mExoPlayer;
+    private DefaultExoPlayer mPlayer;
+    private Player.EventListener mFirst;
+    private Player.EventListener mSecond;
+
+    @Before
+    public void setUp() {
+        mExoPlayer = mock(SimpleExoPlayer.class);
+        mPlayer = new DefaultExoPlayer(mExoPlayer);
+        mFirst = mock(Player.EventListener.class);
+        mSecond = mock(Player.EventListener.class);
+    }
+
+    @Test
+    public void addingTwiceRegistersOnce() {
+        mPlayer.addListener(mFirst);
+        mPlayer.addListener(mFirst);
+
+        verify(mExoPlayer, times(1)).addListener(mFirst);
+        assertEquals(1, mPlayer.getListenerCount());
+    }
+
+    @Test
+    public void removingTwiceUnregistersOnce() {
+        mPlayer.addListener(mFirst);
+        mPlayer.removeListener(mFirst);
+        mPlayer.removeListener(mFirst);
+
+        verify(mExoPlayer, times(1)).removeListener(mFirst);
+        assertEquals(0, mPlayer.getListenerCount());
+    }
+
+    @Test
+    public void removingUnknownListenerIsIgnored() {
+        mPlayer.removeListener(mFirst);
+
+        verify(mExoPlayer, never()).removeListener(any(Player.EventListener.class));
+    }
+
+    @Test
+    public void readdingAfterRemoveRegistersAgain() {
+        mPlayer.addListener(mFirst);
+        mPlayer.removeListener(mFirst);
+        mPlayer.addListener(mFirst);
+
+        verify(mExoPlayer, times(2)).addListener(mFirst);
+        assertEquals(1, mPlayer.getListenerCount());
+    }
+
+    @Test
+    public void switchingSurfacesAddsStateLoggerOnce() {
+        mPlayer.setSurface(mock(Surface.class));
+        mPlayer.setSurface(mock(Surface.class));
+        mPlayer.setSurface(null);
+
+        verify(mExoPlayer, times(1)).addListener(any(Player.EventListener.class));
+        assertEquals(1, mPlayer.getListenerCount());
+    }
+
+    @Test
+    public void releaseDetachesEveryListenerBeforeReleasing() {
+        mPlayer.addListener(mFirst);
+        mPlayer.addListener(mSecond);
+        mPlayer.setSurface(mock(Surface.class));
+
+        mPlayer.release();
+
+        InOrder order = inOrder(mExoPlayer);
+        order.verify(mExoPlayer).removeListener(mFirst);
+        order.verify(mExoPlayer).removeListener(mSecond);
+        order.verify(mExoPlayer).release();
+        verify(mExoPlayer, times(3)).removeListener(any(Player.EventListener.class));
+        assertEquals(0, mPlayer.getListenerCount());
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.samsungxr.videoplayer.component.video.player;
+
+import android.net.Uri;
+
+import com.google.android.exoplayer2.extractor.DefaultExtractorsFactory;
+import com.google.android.exoplayer2.source.ConcatenatingMediaSource;
+import com.google.android.exoplayer2.source.ExtractorMediaSource;
+import com.google.android.exoplayer2.source.MediaSource;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.FileDataSource;
+import com.samsungxr.videoplayer.model.Video;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class PlayingQueueTest {
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    private final Map<MediaSource, Video> mCreated = new IdentityHashMap<>();
+    private PlayingQueue mQueue;
+
+    @Before
+    public void setUp() {
+        final DataSource.Factory files = new DataSource.Factory() {
+            @Override
+            public DataSource createDataSource() {
+                return new FileDataSource();
+            }
+        };
+        mQueue = new PlayingQueue(new PlayingQueue.SourceFactory() {
+            @Override
+            public MediaSource createMediaSource(Video video) {
+                MediaSource source = new ExtractorMediaSource(Uri.parse(video.getPath()), files,
+                        new DefaultExtractorsFactory(), null, null);
+                mCreated.put(source, video);
+                return source;
+            }
+        });
+    }
+
+    private List<Video> videos(int count) throws IOException {
+        List<Video> videos = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            File file = mFolder.newFile("video" + i + ".mp4");
+            videos.add(new Video(i, "video " + i, file.getAbsolutePath(), 1000L, false, false,
+                    false, Video.VideoType.LOCAL));
+        }
+        return videos;
+    }
+
+    private void assertWindowsMatch(List<Video> videos, int size) {
+        ConcatenatingMediaSource source = mQueue.getSource();
+        assertEquals(size, source.getSize());
+        for (int i = 0; i < size; i++) {
+            assertSame(videos.get(i), mCreated.get(source.getMediaSource(i)));
+        }
+    }
+
+    @Test
+    public void resetQueuesCurrentAndNext() throws IOException {
+        List<Video> videos = videos(4);
+
+        ConcatenatingMediaSource source = mQueue.reset(videos);
+
+        assertSame(source, mQueue.getSource());
+        assertEquals(0, mQueue.getIndex());
+        assertSame(videos.get(0), mQueue.getCurrent());
+        assertTrue(mQueue.hasNext());
+        assertWindowsMatch(videos, 2);
+    }
+
+    @Test
+    public void nextVideoIsQueuedBeforeTheCurrentEnds() throws IOException {
+        List<Video> videos = videos(4);
+        mQueue.reset(videos);
+
+        for (int index = 1; index < videos.size(); index++) {
+            assertEquals(index, mQueue.moveToNext());
+            assertSame(videos.get(index), mQueue.getCurrent());
+            int expected = Math.min(index + 2, videos.size());
+            assertWindowsMatch(videos, expected);
+        }
+        assertFalse(mQueue.hasNext());
+        // every video got exactly one source
+        assertEquals(videos.size(), mCreated.size());
+    }
+
+    @Test
+    public void singleVideoQueuesOnlyItself() throws IOException {
+        List<Video> videos = videos(1);
+
+        mQueue.reset(videos);
+
+        assertFalse(mQueue.hasNext());
+        assertWindowsMatch(videos, 1);
+    }
+
+    @Test
+    public void resetStartsANewQueue() throws IOException {
+        List<Video> first = videos(3);
+        ConcatenatingMediaSource firstSource = mQueue.reset(first);
+        mQueue.moveToNext();
+
+        List<Video> second = new ArrayList<>(first.subList(1, 3));
+        ConcatenatingMediaSource secondSource = mQueue.reset(second);
+
+        assertNotSame(firstSource, secondSource);
+        assertEquals(0, mQueue.getIndex());
+        assertSame(second.get(0), mQueue.getCurrent());
+        assertWindowsMatch(second, 2);
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.samsungxr.videoplayer.provider.asyntask;
+
+import android.database.Cursor;
+import android.database.MatrixCursor;
+
+import com.samsungxr.videoplayer.model.Video;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static android.provider.MediaStore.Video.VideoColumns;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class PagedCursorAsyncTaskTest {
+
+    private static final String[] COLUMNS = {
+            VideoColumns._ID,
+            VideoColumns.TITLE,
+            VideoColumns.DATA,
+            VideoColumns.DURATION,
+            VideoColumns.WIDTH,
+            VideoColumns.HEIGHT,
+            VideoColumns.DATE_MODIFIED,
+            VideoCursorReader.IS_360_VIDEO
+    };
+
+    private static MatrixCursor videos(int count) {
+        MatrixCursor cursor = new MatrixCursor(COLUMNS);
+        for (int i = 0; i < count; i++) {
+            cursor.addRow(new Object[]{i, "video " + i, "/sdcard/" + i + ".mp4", 1000L * i,
+                    "1920", "1080", 100L + i, 0});
+        }
+        return cursor;
+    }
+
+    private static class FakeTask extends PagedCursorAsyncTask<Video> {
+
+        private final Cursor mCursor;
+
+        FakeTask(Cursor cursor) {
+            mCursor = cursor;
+        }
+
+        FakeTask(Cursor cursor, PagedDataCallback<Video> callback) {
+            super(callback);
+            mCursor = cursor;
+        }
+
+        @Override
+        protected Cursor query() {
+            return mCursor;
+        }
+
+        @Override
+        protected Video readRow(VideoCursorReader reader) {
+            return reader.readVideo();
+        }
+    }
+
+    private static class RecordingCallback implements PagedDataCallback<Video> {
+
+        final List<List<Video>> pages = new ArrayList<>();
+        int completions;
+
+        @Override
+        public void onPage(List<Video> page) {
+            pages.add(page);
+        }
+
+        @Override
+        public void onComplete() {
+            completions++;
+        }
+
+        List<Integer> pageSizes() {
+            List<Integer> sizes = new ArrayList<>();
+            for (List<Video> page : pages) {
+                sizes.add(page.size());
+            }
+            return sizes;
+        }
+    }
+
+    private static RecordingCallback run(int rows) {
+        RecordingCallback callback = new RecordingCallback();
+        new FakeTask(videos(rows), callback).execute();
+        Robolectric.flushBackgroundThreadScheduler();
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        return callback;
+    }
+
+    private static void assertPages(RecordingCallback callback, Integer... sizes) {
+        List<Integer> expected = new ArrayList<>();
+        for (Integer size : sizes) {
+            expected.add(size);
+        }
+        assertEquals(expected, callback.pageSizes());
+        assertEquals(1, callback.completions);
+
+        long id = 0;
+        for (List<Video> page : callback.pages) {
+            for (Video video : page) {
+                assertEquals(id++, video.getId());
+            }
+        }
+    }
+
+    @Test
+    public void emptyCursorOnlyCompletes() {
+        assertPages(run(0));
+    }
+
+    @Test
+    public void exactlyOnePageHasNoTrailingEmptyPage() {
+        assertPages(run(PagedCursorAsyncTask.PAGE_SIZE), PagedCursorAsyncTask.PAGE_SIZE);
+    }
+
+    @Test
+    public void oneRowPastPagesGetsItsOwnPage() {
+        int size = PagedCursorAsyncTask.PAGE_SIZE;
+        assertPages(run(2 * size + 1), size, size, 1);
+    }
+
+    @Test
+    public void partialPage() {
+        assertPages(run(5), 5);
+    }
+
+    @Test
+    public void readPageStopsAtBoundaryAndReportsExhaustion() {
+        int size = PagedCursorAsyncTask.PAGE_SIZE;
+        Cursor cursor = videos(size);
+        FakeTask task = new FakeTask(cursor);
+        VideoCursorReader reader = new VideoCursorReader(cursor);
+        List<Video> items = new ArrayList<>();
+
+        // a full page cannot tell yet that nothing follows
+        assertTrue(task.readPage(cursor, reader, items, size));
+        assertEquals(size, items.size());
+        assertFalse(task.readPage(cursor, reader, items, size));
+        assertEquals(size, items.size());
+    }
+
+    @Test
+    public void readAllReturnsEveryRowInOrderAndClosesCursor() {
+        int rows = 3 * PagedCursorAsyncTask.PAGE_SIZE + 1;
+        MatrixCursor cursor = videos(rows);
+
+        List<Video> items = new FakeTask(cursor).readAll();
+
+        assertEquals(rows, items.size());
+        for (int i = 0; i < rows; i++) {
+            assertEquals(i, items.get(i).getId());
+        }
+        assertTrue(cursor.isClosed());
+    }
+
+    @Test
+    public void readerMapsColumns() {
+        MatrixCursor cursor = new MatrixCursor(COLUMNS);
+        cursor.addRow(new Object[]{42, "my 360 trip", "/sdcard/trip.mp4", 5000L, "2000", "1000", 77L, 1});
+        cursor.moveToFirst();
+        VideoCursorReader reader = new VideoCursorReader(cursor);
+
+        Video video = reader.readVideo();
+
+        assertEquals(42, video.getId());
+        assertEquals("my 360 trip", video.getTitle());
+        assertEquals("/sdcard/trip.mp4", video.getPath());
+        assertEquals(5000L, video.getDuration());
+        assertEquals(77L, video.getDateModified());
+        assertTrue(video.getIsRatio21());
+        assertTrue(video.getIs360tag());
+        assertTrue(video.getHas360onTitle());
+        assertNull(reader.readBucketName());
+    }
+}
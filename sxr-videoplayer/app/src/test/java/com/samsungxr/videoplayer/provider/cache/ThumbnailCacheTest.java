@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015 Samsung Electronics Co., LTD
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.samsungxr.videoplayer.provider.cache;
+
+import android.graphics.Bitmap;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class ThumbnailCacheTest {
+
+    private static final long VIDEO_ID = 7;
+    private static final long MODIFIED = 1000;
+
+    @Rule
+    public TemporaryFolder mFolder = new TemporaryFolder();
+
+    private File mDirectory;
+    private ThumbnailCache mCache;
+    private int mLoads;
+    private boolean mReturnNull;
+
+    @Before
+    public void setUp() {
+        mDirectory = new File(mFolder.getRoot(), "thumbnails");
+        mCache = newCache();
+    }
+
+    private ThumbnailCache newCache() {
+        ThumbnailCache.Source source = new ThumbnailCache.Source() {
+            @Override
+            public Bitmap load(long videoId) {
+                mLoads++;
+                return mReturnNull ? null : Bitmap.createBitmap(16, 9, Bitmap.Config.ARGB_8888);
+            }
+        };
+        return new ThumbnailCache(source, RuntimeEnvironment.application.getAssets(),
+                1024 * 1024, mDirectory, 1024 * 1024);
+    }
+
+    @Test
+    public void missLoadsFromSourceAndWritesFinalFile() {
+        assertNull(mCache.getFromMemory(VIDEO_ID, MODIFIED));
+
+        assertNotNull(mCache.get(VIDEO_ID, MODIFIED));
+
+        assertEquals(1, mLoads);
+        assertTrue(new File(mDirectory, VIDEO_ID + "_" + MODIFIED + ".jpg").exists());
+        assertEquals(1, mDirectory.list().length);
+    }
+
+    @Test
+    public void secondGetIsMemoryHit() {
+        Bitmap first = mCache.get(VIDEO_ID, MODIFIED);
+        Bitmap second = mCache.get(VIDEO_ID, MODIFIED);
+
+        assertSame(first, second);
+        assertSame(first, mCache.getFromMemory(VIDEO_ID, MODIFIED));
+        assertEquals(1, mLoads);
+    }
+
+    @Test
+    public void diskHitAfterMemoryIsCleared() {
+        mCache.get(VIDEO_ID, MODIFIED);
+        mCache.clearMemory();
+        assertNull(mCache.getFromMemory(VIDEO_ID, MODIFIED));
+
+        assertNotNull(mCache.get(VIDEO_ID, MODIFIED));
+        assertEquals(1, mLoads);
+    }
+
+    @Test
+    public void diskHitAcrossInstances() {
+        mCache.get(VIDEO_ID, MODIFIED);
+
+        assertNotNull(newCache().get(VIDEO_ID, MODIFIED));
+        assertEquals(1, mLoads);
+    }
+
+    @Test
+    public void modifiedVideoMisses() {
+        mCache.get(VIDEO_ID, MODIFIED);
+        mCache.get(VIDEO_ID, MODIFIED + 1);
+
+        assertEquals(2, mLoads);
+    }
+
+    @Test
+    public void missingThumbnailIsNotCached() {
+        mReturnNull = true;
+
+        assertNull(mCache.get(VIDEO_ID, MODIFIED));
+        assertNull(mCache.get(VIDEO_ID, MODIFIED));
+
+        assertEquals(2, mLoads);
+        assertFalse(mDirectory.exists() && mDirectory.list().length > 0);
+    }
+
+    @Test
+    public void leftoverTempFilesAreRemoved() throws IOException {
+        assertTrue(mDirectory.mkdirs());
+        File stale = new File(mDirectory, "3_5.jpg123.tmp");
+        assertTrue(stale.createNewFile());
+
+        mCache.get(VIDEO_ID, MODIFIED);
+
+        assertFalse(stale.exists());
+        assertEquals(1, mDirectory.list().length);
+    }
+}